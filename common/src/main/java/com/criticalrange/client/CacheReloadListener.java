@@ -0,0 +1,44 @@
+package com.criticalrange.client;
+
+import com.criticalrange.features.animation.PistonAnimationLod;
+import com.criticalrange.features.blockentity.StaticBlockEntities;
+import com.criticalrange.features.entity.LabelLayoutCache;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.ResourceReloadListenerKeys;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Drops render caches whose contents depend on client resources
+ * Runs after fonts and models are reloaded, so measured text widths and recorded model geometry are rebuilt from the new ones
+ */
+public class CacheReloadListener implements SimpleSynchronousResourceReloadListener {
+
+    private static final Identifier ID = Identifier.of("vulkanmod-extra", "render_caches");
+
+    public static void register() {
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new CacheReloadListener());
+    }
+
+    @Override
+    public Identifier getFabricId() {
+        return ID;
+    }
+
+    @Override
+    public Collection<Identifier> getFabricDependencies() {
+        return List.of(ResourceReloadListenerKeys.FONTS, ResourceReloadListenerKeys.MODELS);
+    }
+
+    @Override
+    public void reload(ResourceManager manager) {
+        LabelLayoutCache.clear();
+        PistonAnimationLod.clear();
+        StaticBlockEntities.invalidateLayouts();
+    }
+}
@@ -3,6 +3,7 @@ package com.criticalrange.client;
 import com.criticalrange.core.FeatureManager;
 import com.criticalrange.features.animation.AnimationFeature;
 import com.criticalrange.features.particle.ParticleFeature;
+import com.criticalrange.features.entity.EntityTickThrottleFeature;
 import com.criticalrange.features.monitor.MonitorInfoFeature;
 import com.criticalrange.config.ConfigurationManager;
 import com.criticalrange.VulkanModExtra;
@@ -52,6 +53,9 @@ public class VulkanModExtraClient implements ClientModInitializer {
             MinecraftClient minecraft = MinecraftClient.getInstance();
             featureManager.initializeFeatures(minecraft);
 
+            // Drop render caches built from fonts and models when resources reload
+            CacheReloadListener.register();
+
             // Sync vanilla options with our config
             syncVanillaOptions(minecraft);
 
@@ -90,6 +94,7 @@ public class VulkanModExtraClient implements ClientModInitializer {
         featureManager.registerFeature(new AnimationFeature());
         featureManager.registerFeature(new ParticleFeature());
         featureManager.registerFeature(new MonitorInfoFeature());
+        featureManager.registerFeature(new EntityTickThrottleFeature());
     }
 
     /**
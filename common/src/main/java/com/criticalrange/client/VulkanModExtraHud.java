@@ -1,5 +1,6 @@
 package com.criticalrange.client;
 
+import com.criticalrange.features.animation.AnimationProfilerOverlay;
 import com.criticalrange.features.fps.FPSDisplayFeature;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
@@ -59,6 +60,9 @@ public class VulkanModExtraHud {
             if (fpsDisplay != null && fpsDisplay.isEnabled()) {
                 fpsDisplay.render(drawContext, partialTicks);
             }
+
+            // Render animation cost profiler
+            AnimationProfilerOverlay.render(drawContext);
         } catch (Exception e) {
             // Silently ignore render errors to prevent spam
         }
@@ -137,6 +137,33 @@ public class VulkanModExtraConfig {
         public boolean brewingStandBase = true;
         public boolean cauldronWater = true;
         public boolean enchantingTableBook = true;
+
+        // Block entity animation LOD - far block entities animate less often, then freeze
+        public boolean blockEntityAnimationLod = false;
+        public int blockEntityAnimationDistance = 32; // Range: 8-128, full rate within this distance
+        public int blockEntityFreezeDistance = 96; // Range: 16-256, frozen beyond this distance
+        public int blockEntityAnimationInterval = 4; // Range: 2-20, ticks between updates in between
+
+        // Entity animation LOD - far mobs drop secondary animations, then hold a rest pose
+        public boolean entityAnimationLod = false;
+        public int entityAnimationDistance = 24; // Range: 8-128, full animation within this distance
+        public int entityAnimationFreezeDistance = 64; // Range: 16-256, rest pose beyond this distance
+
+        // Frame interpolation ("interpolate": true in .mcmeta) - when off, frames step discretely
+        public boolean frameInterpolation = true;
+        public boolean fluidInterpolation = true;
+        public boolean fireInterpolation = true;
+        public boolean portalInterpolation = true;
+        public boolean blockInterpolation = true;
+        public boolean plantInterpolation = true;
+        public boolean otherInterpolation = true;
+
+        // Per-sprite cost profiler shown in the HUD overlay
+        public boolean animationProfiler = false;
+        public AnimationProfilerSort animationProfilerSort = AnimationProfilerSort.TIME;
+
+        // Auto-generated toggles for detected animated sprites, only disabled entries are stored
+        public final Map<String, Boolean> otherAnimations = new HashMap<>();
     }
 
     public static class ParticleSettings {
@@ -268,15 +295,52 @@ public class VulkanModExtraConfig {
 
     public static class RenderSettings {
         public boolean lightUpdates = true;
+        public int lightUpdateBudget = 2000; // Range: 250-10000 microseconds per frame, default: 2000
+        public boolean asyncLightEngine = false; // Experimental: client light propagation on a worker thread
+        public int lightCoalescingWindow = 100; // Range: 0-500 ms, 0 disables, default: 100
+        public boolean lightingDebugInfo = false; // Lighting metrics on the debug screen (F3)
         public boolean itemFrame = true;
         public boolean armorStand = true;
         public boolean painting = true;
+        public boolean decorativeEntityLod = false;
+        public int decorativeEntityDetailDistance = 24; // Range: 4-64 blocks, extras dropped beyond this distance
+        public int itemFrameRenderDistance = 64; // Range: 8-128 blocks
+        public int armorStandRenderDistance = 64; // Range: 8-128 blocks
+        public int paintingRenderDistance = 96; // Range: 8-128 blocks
+        public boolean staticDecorationCache = false;
+        public int mapTextureCacheSize = 256; // Range: 32-1024 map textures kept (64 KB each)
+        public int mapDecorationDistance = 0; // Range: 0-128 blocks, 0 disables, framed maps further away skip decorations
+        public boolean entityRenderBudget = false;
+        public int entityRenderLimit = 200; // Range: 25-1000 entities rendered per frame
+        public boolean entityBudgetScreenSize = true; // Weight the nearest-first selection by entity size
+        public boolean distantEntityLod = false;
+        public int distantEntityDistance = 48; // Range: 16-128 blocks, entities further away use simplified models
+        public boolean itemClusterMerging = false; // Piles of identical dropped items and orbs are drawn once
         public boolean piston = true;
+        public boolean pistonLod = false;
+        public int pistonLodDistance = 32; // Range: 8-128 blocks, moving blocks further away replay recorded geometry
+        public boolean blockEntityRenderDistance = false;
+        // Max render distance of the built-in block entity types, Range: 0-128 blocks, 0 = no limit
+        public int signRenderDistance = 32; // Signs and hanging signs
+        public int bannerRenderDistance = 48;
+        public int skullRenderDistance = 32;
+        public int chestRenderDistance = 48; // Chests, trapped chests and ender chests
+        public int shulkerBoxRenderDistance = 48;
+        public int decoratedPotRenderDistance = 32;
+        public int lecternRenderDistance = 24;
+        public int campfireRenderDistance = 32;
+        // Max render distance per block entity type id (e.g. "minecraft:sign"), overrides the settings above, 0 = no limit
+        public final Map<String, Integer> blockEntityRenderDistances = new HashMap<>();
+        public boolean staticBlockEntities = false; // Banners stop waving, sign text layout is kept between frames
         public boolean beaconBeam = true;
         public int beaconBeamHeight = 256; // Range: 32-512, default: 256
         public boolean itemFrameNameTag = true;
         public boolean armorStandNameTag = true;
         public boolean playerNameTag = true;
+        public int playerNameTagDistance = 64; // Range: 4-64 blocks, 64 matches vanilla
+        public int armorStandNameTagDistance = 64; // Range: 4-64 blocks, holograms are mostly armor stands
+        public int itemFrameNameTagDistance = 64; // Range: 4-64 blocks
+        public int otherNameTagDistance = 64; // Range: 4-64 blocks, named mobs and other entities
         public boolean fog = true; // Master fog toggle (renamed from globalFog)
         // Dimension-specific fog toggles
         public boolean overworldFog = true;
@@ -286,6 +350,23 @@ public class VulkanModExtraConfig {
         public boolean waterFog = true;
         public boolean lavaFog = true;
         public boolean powderSnowFog = true;
+        // Skip entities and block entities fully hidden by terrain fog
+        public boolean fogCulling = true;
+        // Fog distance multipliers in percent of vanilla (Range: 10-200, default: 100)
+        public int overworldFogStart = 100;
+        public int overworldFogEnd = 100;
+        public int netherFogStart = 100;
+        public int netherFogEnd = 100;
+        public int endFogStart = 100;
+        public int endFogEnd = 100;
+        public int waterFogStart = 100;
+        public int waterFogEnd = 100;
+        public int lavaFogStart = 100;
+        public int lavaFogEnd = 100;
+        public int powderSnowFogStart = 100;
+        public int powderSnowFogEnd = 100;
+        // Clamp the render distance to the fog end of the current dimension
+        public boolean fogRenderDistanceHint = false;
 
         public RenderSettings() {
             // No complex fog config initialization needed anymore
@@ -333,7 +414,14 @@ public class VulkanModExtraConfig {
     }
 
     public static class OptimizationSettings {
-        // Reserved for future optimization features
+        // Client entity tick throttling - distant idle entities tick every 2nd, then every 4th tick
+        public boolean entityTickThrottle = false;
+        public int entityTickHalfRateDistance = 32; // Range: 16-128 blocks, every 2nd tick beyond this distance
+        public int entityTickQuarterRateDistance = 64; // Range: 32-256 blocks, every 4th tick beyond this distance
+        public boolean throttleHostileTicks = true;
+        public boolean throttlePassiveTicks = true;
+        public boolean throttleItemTicks = true;
+        public boolean throttleOtherTicks = false;
     }
 
     // ===== ENUMS =====
@@ -346,6 +434,10 @@ public class VulkanModExtraConfig {
         NONE, BACKGROUND, SHADOW
     }
 
+    public enum AnimationProfilerSort {
+        TIME, BYTES, NAME
+    }
+
     public enum FPSDisplayMode {
         BASIC, EXTENDED, DETAILED;
 
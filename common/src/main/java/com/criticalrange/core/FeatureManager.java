@@ -9,6 +9,8 @@ import com.criticalrange.core.events.FeatureEvent;
 import com.criticalrange.core.events.FeatureEventType;
 import com.criticalrange.core.error.ErrorRecoveryManager;
 import com.criticalrange.core.error.ErrorRecoveryStrategy;
+import com.criticalrange.features.light.LightUpdateCoalescer;
+import com.criticalrange.features.light.LightingMetrics;
 import net.minecraft.client.MinecraftClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -441,6 +443,14 @@ public class FeatureManager {
         sb.append(String.format("Healthy Features: %d\n", healthSummary.healthyCount()));
         sb.append(String.format("Unhealthy Features: %d\n", healthSummary.unhealthyCount()));
 
+        // Client light engine metrics
+        LightingMetrics.Snapshot lighting = LightingMetrics.snapshot();
+        sb.append(String.format("Light Updates: %d last pass, %.1f avg\n", lighting.lastUpdates(), lighting.averageUpdates()));
+        sb.append(String.format("Light Pass Time: p50 %d us, p99 %d us\n", lighting.p50Nanos() / 1000L, lighting.p99Nanos() / 1000L));
+        sb.append(String.format("Pending Light Updates: %d\n", lighting.pendingUpdates()));
+        sb.append(String.format("Light Rebuilds: %d/s (%d debounced total)\n",
+            lighting.rebuildsPerSecond(), LightUpdateCoalescer.getDebouncedRebuilds()));
+
         return sb.toString();
     }
 
@@ -0,0 +1,48 @@
+package com.criticalrange.features.animation;
+
+/**
+ * Coarse grouping of animated sprites, matching the blocks of the Animation option page
+ * Anything that is not a known vanilla texture (mods, resource packs) falls into OTHER
+ */
+public enum AnimationCategory {
+    FLUID("fluid"),
+    FIRE_LIGHT("fire_light"),
+    PORTAL("portal"),
+    BLOCK("block"),
+    PLANT("plant"),
+    OTHER("other");
+
+    private final String id;
+
+    AnimationCategory(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Classify a sprite by its texture path (e.g. "block/water_still")
+     */
+    public static AnimationCategory fromSpritePath(String path) {
+        if (path == null) {
+            return OTHER;
+        }
+
+        if (path.contains("water") || path.contains("lava")) return FLUID;
+        if (path.contains("fire") || path.contains("lantern")) return FIRE_LIGHT;
+        if (path.contains("portal") || path.contains("end_gateway")) return PORTAL;
+        if (path.contains("kelp") || path.contains("seagrass")) return PLANT;
+
+        if (path.contains("magma") || path.contains("prismarine") || path.contains("conduit")
+            || path.contains("respawn_anchor") || path.contains("stonecutter") || path.contains("_front_on")
+            || path.contains("_stem") || path.contains("_hyphae") || path.contains("sculk")
+            || path.contains("command_block") || path.contains("beacon") || path.contains("dragon_egg")
+            || path.contains("brewing_stand")) {
+            return BLOCK;
+        }
+
+        return OTHER;
+    }
+}
@@ -0,0 +1,184 @@
+package com.criticalrange.features.animation;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-sprite cost profiler for atlas animation ticks
+ * Measures the time spent ticking each animated sprite and the bytes it uploads,
+ * aggregated over a rolling window of one-second buckets
+ *
+ * Sprites are identified by their position in the atlas' animated sprite list, which is
+ * built in the same order as the atlas hook sees them. Everything runs on the render thread.
+ */
+public final class AnimationCostProfiler {
+
+    private static final int WINDOW_SECONDS = 5;
+
+    private static final Map<Identifier, List<Identifier>> SPRITES_BY_ATLAS = new HashMap<>();
+    private static final Map<Identifier, SpriteCost> COSTS = new HashMap<>();
+
+    private static List<Identifier> tickingSprites;
+    private static int tickIndex;
+    private static SpriteCost currentCost;
+    private static long spriteStartNanos;
+
+    private AnimationCostProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.animationSettings != null && config.animationSettings.animationProfiler;
+    }
+
+    // ===== ATLAS UPLOAD =====
+
+    public static void beginAtlas(Identifier atlasId) {
+        if (atlasId != null) {
+            SPRITES_BY_ATLAS.put(atlasId, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Register an animated sprite in the order it is added to the atlas tick list
+     */
+    public static void registerSprite(Identifier atlasId, Identifier spriteId) {
+        if (atlasId != null) {
+            SPRITES_BY_ATLAS.computeIfAbsent(atlasId, id -> new ArrayList<>()).add(spriteId);
+        }
+    }
+
+    // ===== ATLAS TICK =====
+
+    public static void beginTick(Identifier atlasId) {
+        tickingSprites = isEnabled() ? SPRITES_BY_ATLAS.get(atlasId) : null;
+        tickIndex = 0;
+    }
+
+    public static void beginSprite() {
+        if (tickingSprites == null) {
+            return;
+        }
+
+        Identifier spriteId = tickIndex < tickingSprites.size() ? tickingSprites.get(tickIndex) : null;
+        currentCost = spriteId != null ? COSTS.computeIfAbsent(spriteId, SpriteCost::new) : null;
+        spriteStartNanos = System.nanoTime();
+    }
+
+    public static void endSprite() {
+        if (tickingSprites == null) {
+            return;
+        }
+
+        if (currentCost != null) {
+            currentCost.add(System.nanoTime() - spriteStartNanos, 0L);
+        }
+        currentCost = null;
+        tickIndex++;
+    }
+
+    public static void endTick() {
+        tickingSprites = null;
+        currentCost = null;
+    }
+
+    /**
+     * True while a sprite tick is being measured, lets the upload hook skip its size computation
+     */
+    public static boolean isRecording() {
+        return currentCost != null;
+    }
+
+    /**
+     * Called from the sprite upload path, attributed to the sprite currently ticking
+     */
+    public static void recordUpload(long bytes) {
+        if (currentCost != null) {
+            currentCost.add(0L, bytes);
+        }
+    }
+
+    // ===== RESULTS =====
+
+    /**
+     * Get the most expensive sprites over the rolling window
+     */
+    public static List<SpriteCostSnapshot> getTopSprites(VulkanModExtraConfig.AnimationProfilerSort sort, int limit) {
+        long second = currentSecond();
+        List<SpriteCostSnapshot> snapshots = new ArrayList<>(COSTS.size());
+        for (SpriteCost cost : COSTS.values()) {
+            SpriteCostSnapshot snapshot = cost.snapshot(second);
+            if (snapshot.nanosPerSecond() > 0 || snapshot.bytesPerSecond() > 0) {
+                snapshots.add(snapshot);
+            }
+        }
+
+        Comparator<SpriteCostSnapshot> comparator = switch (sort) {
+            case TIME -> Comparator.comparingLong(SpriteCostSnapshot::nanosPerSecond).reversed();
+            case BYTES -> Comparator.comparingLong(SpriteCostSnapshot::bytesPerSecond).reversed();
+            case NAME -> Comparator.comparing(snapshot -> snapshot.spriteId().toString());
+        };
+        snapshots.sort(comparator);
+
+        return snapshots.size() > limit ? new ArrayList<>(snapshots.subList(0, limit)) : snapshots;
+    }
+
+    public static void reset() {
+        COSTS.clear();
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000L;
+    }
+
+    /**
+     * Averaged cost of one sprite over the rolling window
+     */
+    public record SpriteCostSnapshot(Identifier spriteId, long nanosPerSecond, long bytesPerSecond) {}
+
+    /**
+     * Rolling one-second buckets for a single sprite
+     */
+    private static final class SpriteCost {
+        private final Identifier spriteId;
+        private final long[] bucketSecond = new long[WINDOW_SECONDS];
+        private final long[] nanos = new long[WINDOW_SECONDS];
+        private final long[] bytes = new long[WINDOW_SECONDS];
+
+        SpriteCost(Identifier spriteId) {
+            this.spriteId = spriteId;
+        }
+
+        void add(long elapsedNanos, long uploadedBytes) {
+            long second = currentSecond();
+            int bucket = (int) (second % WINDOW_SECONDS);
+            if (bucketSecond[bucket] != second) {
+                bucketSecond[bucket] = second;
+                nanos[bucket] = 0L;
+                bytes[bucket] = 0L;
+            }
+            nanos[bucket] += elapsedNanos;
+            bytes[bucket] += uploadedBytes;
+        }
+
+        SpriteCostSnapshot snapshot(long second) {
+            long totalNanos = 0L;
+            long totalBytes = 0L;
+            for (int i = 0; i < WINDOW_SECONDS; i++) {
+                // Only count buckets that belong to the window ending at the current second
+                if (second - bucketSecond[i] < WINDOW_SECONDS) {
+                    totalNanos += nanos[i];
+                    totalBytes += bytes[i];
+                }
+            }
+            return new SpriteCostSnapshot(spriteId, totalNanos / WINDOW_SECONDS, totalBytes / WINDOW_SECONDS);
+        }
+    }
+}
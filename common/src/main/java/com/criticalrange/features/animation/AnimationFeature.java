@@ -276,6 +276,15 @@ public class AnimationFeature extends BaseFeature {
                 }
 
                 sb.append(String.format("Animations: %d/%d enabled\n", enabledCount, totalCount));
+                sb.append(String.format("Stripped Sprites: %d (%.1f MB frame memory saved)\n",
+                    SpriteFrameStripper.getStrippedSpriteCount(),
+                    SpriteFrameStripper.getBytesSaved() / (1024.0 * 1024.0)));
+                sb.append(String.format("Interpolated Sprites: %d active, %d stepped\n",
+                    AnimationInterpolationControl.getInterpolatedSpriteCount(),
+                    AnimationInterpolationControl.getSteppedSpriteCount()));
+                sb.append(String.format("Detected Sprites: %d loaded, %d disabled\n",
+                    AnimationToggleStore.getLoadedSpriteCount(),
+                    AnimationToggleStore.getDisabledSpriteCount()));
             } else {
                 sb.append("Config: Not accessible\n");
             }
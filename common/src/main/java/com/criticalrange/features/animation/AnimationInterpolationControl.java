@@ -0,0 +1,118 @@
+package com.criticalrange.features.animation;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.util.Identifier;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether sprites with "interpolate": true keep their CPU frame blending
+ * Stepped sprites switch frames discretely like any other animation, skipping the per-tick blend and upload
+ *
+ * Animators are created on the render thread while an atlas uploads, so the sprite currently
+ * being processed is tracked in plain static fields
+ */
+public final class AnimationInterpolationControl {
+
+    private static final Map<Identifier, Map<Identifier, Boolean>> SPRITES_BY_ATLAS = new ConcurrentHashMap<>();
+
+    private static Identifier currentAtlas;
+    private static Identifier currentSprite;
+
+    private AnimationInterpolationControl() {
+    }
+
+    public static void beginAtlas(Identifier atlasId) {
+        currentAtlas = atlasId;
+        if (atlasId != null) {
+            SPRITES_BY_ATLAS.remove(atlasId);
+        }
+    }
+
+    public static void beginAnimator(Identifier spriteId) {
+        currentSprite = spriteId;
+    }
+
+    public static void endAnimator() {
+        currentSprite = null;
+    }
+
+    /**
+     * Resolve the interpolation flag of the animator being created
+     * @param interpolate value from the sprite's animation metadata
+     */
+    public static boolean resolve(boolean interpolate) {
+        if (!interpolate || currentSprite == null) {
+            return interpolate;
+        }
+
+        boolean keep = isInterpolationAllowed(currentSprite);
+        if (currentAtlas != null) {
+            SPRITES_BY_ATLAS.computeIfAbsent(currentAtlas, id -> new ConcurrentHashMap<>()).put(currentSprite, keep);
+        }
+        return keep;
+    }
+
+    /**
+     * Sprites whose animation is blocked entirely are not ticked, so they do not count as interpolated
+     */
+    public static void forget(Identifier atlasId, Identifier spriteId) {
+        if (atlasId == null || spriteId == null) {
+            return;
+        }
+
+        Map<Identifier, Boolean> sprites = SPRITES_BY_ATLAS.get(atlasId);
+        if (sprites != null) {
+            sprites.remove(spriteId);
+        }
+    }
+
+    public static boolean isInterpolationAllowed(Identifier spriteId) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.animationSettings == null) {
+            return true;
+        }
+
+        var settings = config.animationSettings;
+        if (!settings.frameInterpolation) {
+            return false;
+        }
+
+        return switch (AnimationCategory.fromSpritePath(spriteId.getPath())) {
+            case FLUID -> settings.fluidInterpolation;
+            case FIRE_LIGHT -> settings.fireInterpolation;
+            case PORTAL -> settings.portalInterpolation;
+            case BLOCK -> settings.blockInterpolation;
+            case PLANT -> settings.plantInterpolation;
+            case OTHER -> settings.otherInterpolation;
+        };
+    }
+
+    /**
+     * Number of ticking sprites that still blend frames on the CPU
+     */
+    public static int getInterpolatedSpriteCount() {
+        return count(true);
+    }
+
+    /**
+     * Number of ticking sprites with interpolation in their metadata that were forced to step
+     */
+    public static int getSteppedSpriteCount() {
+        return count(false);
+    }
+
+    private static int count(boolean interpolated) {
+        int count = 0;
+        for (Map<Identifier, Boolean> sprites : SPRITES_BY_ATLAS.values()) {
+            for (Boolean value : sprites.values()) {
+                if (value == interpolated) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,68 @@
+package com.criticalrange.features.animation;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+
+import java.util.List;
+
+/**
+ * HUD list of the most expensive animated sprites, sorted by the configured column
+ * Drawn in the top-right corner with the same background as the debug screen
+ */
+public final class AnimationProfilerOverlay {
+
+    private static final int MAX_ENTRIES = 10;
+    private static final int MARGIN = 2;
+
+    private AnimationProfilerOverlay() {
+    }
+
+    public static void render(DrawContext drawContext) {
+        if (!AnimationCostProfiler.isEnabled()) {
+            return;
+        }
+
+        MinecraftClient minecraft = MinecraftClient.getInstance();
+        if (minecraft == null || minecraft.textRenderer == null) {
+            return;
+        }
+
+        VulkanModExtraConfig.AnimationProfilerSort sort = VulkanModExtra.CONFIG.animationSettings.animationProfilerSort;
+        if (sort == null) {
+            sort = VulkanModExtraConfig.AnimationProfilerSort.TIME;
+        }
+
+        List<AnimationCostProfiler.SpriteCostSnapshot> sprites = AnimationCostProfiler.getTopSprites(sort, MAX_ENTRIES);
+        String header = "Animation cost (" + sort.name().toLowerCase() + ") - us/s, KB/s";
+
+        int fontHeight = minecraft.textRenderer.fontHeight;
+        int screenWidth = minecraft.getWindow().getScaledWidth();
+        int y = MARGIN;
+
+        drawLine(drawContext, minecraft, header, screenWidth, y);
+        y += fontHeight + MARGIN;
+
+        if (sprites.isEmpty()) {
+            drawLine(drawContext, minecraft, "No animated sprites ticking", screenWidth, y);
+            return;
+        }
+
+        for (AnimationCostProfiler.SpriteCostSnapshot sprite : sprites) {
+            String line = String.format("%s  %d us  %.1f KB",
+                sprite.spriteId().getPath(),
+                sprite.nanosPerSecond() / 1000L,
+                sprite.bytesPerSecond() / 1024.0);
+            drawLine(drawContext, minecraft, line, screenWidth, y);
+            y += fontHeight + MARGIN;
+        }
+    }
+
+    private static void drawLine(DrawContext drawContext, MinecraftClient minecraft, String text, int screenWidth, int y) {
+        int textWidth = minecraft.textRenderer.getWidth(text);
+        int x = screenWidth - textWidth - MARGIN;
+        drawContext.fill(x - 1, y - 1, x + textWidth + 1, y + minecraft.textRenderer.fontHeight + 1, 0x90505050);
+        drawContext.drawText(minecraft.textRenderer, text, x, y, 0xFFFFFFFF, false);
+    }
+}
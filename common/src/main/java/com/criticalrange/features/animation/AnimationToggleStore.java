@@ -0,0 +1,244 @@
+package com.criticalrange.features.animation;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Toggles for every animated sprite found in the loaded atlases, including modded and resource pack textures
+ * Sprites are grouped by namespace and texture directory (e.g. "create:block") so whole mods can be switched at once
+ *
+ * Sprites and groups get a stable index the first time they are seen, their state lives in bitsets.
+ * Only disabled entries are persisted, in {@link VulkanModExtraConfig.AnimationSettings#otherAnimations}
+ * keyed by sprite id or by group key followed by "/*". Everything runs on the render thread.
+ */
+public final class AnimationToggleStore {
+
+    private static final String GROUP_SUFFIX = "/*";
+
+    private static final Map<Identifier, Integer> SPRITE_INDEX = new HashMap<>();
+    private static final List<Identifier> SPRITES = new ArrayList<>();
+    private static final Map<String, Integer> GROUP_INDEX = new HashMap<>();
+    private static final List<String> GROUPS = new ArrayList<>();
+    private static int[] spriteGroups = new int[64];
+
+    private static final BitSet DISABLED_SPRITES = new BitSet();
+    private static final BitSet DISABLED_GROUPS = new BitSet();
+    private static final Map<Identifier, BitSet> PRESENT_BY_ATLAS = new HashMap<>();
+
+    private AnimationToggleStore() {
+    }
+
+    // ===== ATLAS UPLOAD =====
+
+    /**
+     * Called when an atlas starts uploading, its animated sprites are enumerated again
+     */
+    public static void beginAtlas(Identifier atlasId) {
+        if (atlasId != null) {
+            PRESENT_BY_ATLAS.put(atlasId, new BitSet());
+        }
+        // Pick up edits made to the config file since the last reload
+        loadFromConfig();
+    }
+
+    /**
+     * Record an animated sprite of the atlas being uploaded
+     */
+    public static void register(Identifier atlasId, Identifier spriteId) {
+        if (atlasId == null || spriteId == null) {
+            return;
+        }
+
+        int index = indexOf(spriteId);
+        PRESENT_BY_ATLAS.computeIfAbsent(atlasId, id -> new BitSet()).set(index);
+    }
+
+    // ===== STATE =====
+
+    public static boolean isEnabled(Identifier spriteId) {
+        Integer index = SPRITE_INDEX.get(spriteId);
+        if (index == null) {
+            return true;
+        }
+        return !DISABLED_SPRITES.get(index) && !DISABLED_GROUPS.get(spriteGroups[index]);
+    }
+
+    public static boolean isSpriteEnabled(Identifier spriteId) {
+        Integer index = SPRITE_INDEX.get(spriteId);
+        return index == null || !DISABLED_SPRITES.get(index);
+    }
+
+    public static void setSpriteEnabled(Identifier spriteId, boolean enabled) {
+        int index = indexOf(spriteId);
+        DISABLED_SPRITES.set(index, !enabled);
+        store(spriteId.toString(), enabled);
+    }
+
+    public static boolean isGroupEnabled(String group) {
+        Integer index = GROUP_INDEX.get(group);
+        return index == null || !DISABLED_GROUPS.get(index);
+    }
+
+    public static void setGroupEnabled(String group, boolean enabled) {
+        int index = groupIndexOf(group);
+        DISABLED_GROUPS.set(index, !enabled);
+        store(group + GROUP_SUFFIX, enabled);
+    }
+
+    // ===== ENUMERATION =====
+
+    /**
+     * Groups that have at least one animated sprite in the currently loaded atlases, sorted by key
+     */
+    public static List<String> getGroups() {
+        BitSet present = getPresentGroups();
+        List<String> groups = new ArrayList<>(present.cardinality());
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            groups.add(GROUPS.get(i));
+        }
+        groups.sort(Comparator.naturalOrder());
+        return groups;
+    }
+
+    /**
+     * Currently loaded animated sprites of a group, sorted by id
+     */
+    public static List<Identifier> getSprites(String group) {
+        Integer groupIndex = GROUP_INDEX.get(group);
+        List<Identifier> sprites = new ArrayList<>();
+        if (groupIndex == null) {
+            return sprites;
+        }
+
+        BitSet present = getPresentSprites();
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            if (spriteGroups[i] == groupIndex) {
+                sprites.add(SPRITES.get(i));
+            }
+        }
+        sprites.sort(Comparator.comparing(Identifier::toString));
+        return sprites;
+    }
+
+    public static int getLoadedSpriteCount() {
+        return getPresentSprites().cardinality();
+    }
+
+    public static int getDisabledSpriteCount() {
+        BitSet disabled = getPresentSprites();
+        for (int i = disabled.nextSetBit(0); i >= 0; i = disabled.nextSetBit(i + 1)) {
+            if (isEnabled(SPRITES.get(i))) {
+                disabled.clear(i);
+            }
+        }
+        return disabled.cardinality();
+    }
+
+    /**
+     * Group key of a sprite: its namespace and texture directory
+     */
+    public static String groupOf(Identifier spriteId) {
+        String path = spriteId.getPath();
+        int slash = path.lastIndexOf('/');
+        return spriteId.getNamespace() + ":" + (slash > 0 ? path.substring(0, slash) : "");
+    }
+
+    // ===== INTERNALS =====
+
+    private static int indexOf(Identifier spriteId) {
+        Integer index = SPRITE_INDEX.get(spriteId);
+        if (index != null) {
+            return index;
+        }
+
+        int newIndex = SPRITES.size();
+        SPRITES.add(spriteId);
+        SPRITE_INDEX.put(spriteId, newIndex);
+
+        if (newIndex >= spriteGroups.length) {
+            int[] grown = new int[spriteGroups.length * 2];
+            System.arraycopy(spriteGroups, 0, grown, 0, spriteGroups.length);
+            spriteGroups = grown;
+        }
+        spriteGroups[newIndex] = groupIndexOf(groupOf(spriteId));
+
+        Map<String, Boolean> stored = getStoredToggles();
+        DISABLED_SPRITES.set(newIndex, stored != null && Boolean.FALSE.equals(stored.get(spriteId.toString())));
+        return newIndex;
+    }
+
+    private static int groupIndexOf(String group) {
+        Integer index = GROUP_INDEX.get(group);
+        if (index != null) {
+            return index;
+        }
+
+        int newIndex = GROUPS.size();
+        GROUPS.add(group);
+        GROUP_INDEX.put(group, newIndex);
+
+        Map<String, Boolean> stored = getStoredToggles();
+        DISABLED_GROUPS.set(newIndex, stored != null && Boolean.FALSE.equals(stored.get(group + GROUP_SUFFIX)));
+        return newIndex;
+    }
+
+    private static void loadFromConfig() {
+        Map<String, Boolean> stored = getStoredToggles();
+        DISABLED_SPRITES.clear();
+        DISABLED_GROUPS.clear();
+        if (stored == null) {
+            return;
+        }
+
+        for (int i = 0; i < SPRITES.size(); i++) {
+            DISABLED_SPRITES.set(i, Boolean.FALSE.equals(stored.get(SPRITES.get(i).toString())));
+        }
+        for (int i = 0; i < GROUPS.size(); i++) {
+            DISABLED_GROUPS.set(i, Boolean.FALSE.equals(stored.get(GROUPS.get(i) + GROUP_SUFFIX)));
+        }
+    }
+
+    private static void store(String key, boolean enabled) {
+        Map<String, Boolean> stored = getStoredToggles();
+        if (stored == null) {
+            return;
+        }
+
+        // Enabled is the default, so only disabled entries are kept
+        if (enabled) {
+            stored.remove(key);
+        } else {
+            stored.put(key, false);
+        }
+    }
+
+    private static BitSet getPresentSprites() {
+        BitSet present = new BitSet(SPRITES.size());
+        for (BitSet atlasSprites : PRESENT_BY_ATLAS.values()) {
+            present.or(atlasSprites);
+        }
+        return present;
+    }
+
+    private static BitSet getPresentGroups() {
+        BitSet present = getPresentSprites();
+        BitSet groups = new BitSet(GROUPS.size());
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            groups.set(spriteGroups[i]);
+        }
+        return groups;
+    }
+
+    private static Map<String, Boolean> getStoredToggles() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.animationSettings != null ? config.animationSettings.otherAnimations : null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.criticalrange.features.animation;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Distance-based level of detail for block entity animations driven by client ticks
+ * (enchanting table book, conduit, bell, chest lids, end gateway beam)
+ *
+ * Within the animation distance every tick runs, up to the freeze distance the animation
+ * ticks once per interval, and beyond it the animation stays where it is
+ */
+public final class BlockEntityAnimationLod {
+
+    private BlockEntityAnimationLod() {
+    }
+
+    /**
+     * Whether the client animation tick of the block entity at this position should run this tick
+     */
+    public static boolean shouldTick(World world, BlockPos pos) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.animationSettings == null || !config.animationSettings.blockEntityAnimationLod) {
+            return true;
+        }
+
+        Entity camera = MinecraftClient.getInstance().getCameraEntity();
+        if (camera == null || world == null || pos == null) {
+            return true;
+        }
+
+        var settings = config.animationSettings;
+        double dx = pos.getX() + 0.5 - camera.getX();
+        double dy = pos.getY() + 0.5 - camera.getY();
+        double dz = pos.getZ() + 0.5 - camera.getZ();
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+        double fullRate = settings.blockEntityAnimationDistance;
+        if (distanceSquared <= fullRate * fullRate) {
+            return true;
+        }
+
+        double freeze = settings.blockEntityFreezeDistance;
+        if (distanceSquared > freeze * freeze) {
+            return false;
+        }
+
+        // Stagger by position so throttled block entities do not all tick on the same frame
+        int interval = Math.max(1, settings.blockEntityAnimationInterval);
+        return (world.getTime() + Math.floorMod(pos.hashCode(), interval)) % interval == 0;
+    }
+}
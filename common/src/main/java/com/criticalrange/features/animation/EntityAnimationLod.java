@@ -0,0 +1,116 @@
+package com.criticalrange.features.animation;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.entity.model.EntityModel;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.passive.TameableEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.registry.Registries;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Distance-based level of detail for entity model animations
+ *
+ * Within the animation distance a model is posed as usual, up to the freeze distance it skips
+ * its secondary animations (head turning, idle motion) and keeps only its limb swing, and beyond it
+ * the model stays in a rest pose. Every entity of a type shares one model, so the rest pose is set up
+ * once per model and reused by every frozen entity drawn after it, until a closer entity poses the model again.
+ * Entities whose state shapes the pose (sleeping, swimming, riding, baby, sneaking, sitting, attacking,
+ * using or swinging an item, held items) only share it with entities in the same state.
+ * 1.21.2 to 1.21.8 pick the band and the pose key while building the render state and pose the model
+ * from it the same way. 1.21.9+ poses models in the render command queue, where this does not apply.
+ *
+ * Players, the camera entity and glowing entities always animate. Render thread only.
+ */
+public final class EntityAnimationLod {
+
+    public enum Band {
+        FULL, REDUCED, FROZEN
+    }
+
+    // Model -> pose key of the rest pose it currently holds
+    private static final Map<EntityModel<?>, Long> REST_POSES = new IdentityHashMap<>();
+
+    private EntityAnimationLod() {
+    }
+
+    public static Band getBand(LivingEntity entity) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.animationSettings == null || !config.animationSettings.entityAnimationLod) {
+            return Band.FULL;
+        }
+
+        Entity camera = MinecraftClient.getInstance().getCameraEntity();
+        if (camera == null || entity == camera || entity instanceof PlayerEntity || entity.isGlowing()) {
+            return Band.FULL;
+        }
+
+        var settings = config.animationSettings;
+        double distanceSquared = entity.squaredDistanceTo(camera.getX(), camera.getEyeY(), camera.getZ());
+        double freeze = settings.entityAnimationFreezeDistance;
+        if (distanceSquared > freeze * freeze) {
+            return Band.FROZEN;
+        }
+
+        double full = settings.entityAnimationDistance;
+        return distanceSquared > full * full ? Band.REDUCED : Band.FULL;
+    }
+
+    /**
+     * Whether the model already holds the rest pose for this entity, so posing it can be skipped
+     */
+    public static boolean holdsRestPose(EntityModel<?> model, LivingEntity entity) {
+        return holdsRestPose(model, poseKey(entity));
+    }
+
+    public static boolean holdsRestPose(EntityModel<?> model, long poseKey) {
+        Long pose = REST_POSES.get(model);
+        return pose != null && pose == poseKey;
+    }
+
+    public static void markRestPose(EntityModel<?> model, LivingEntity entity) {
+        markRestPose(model, poseKey(entity));
+    }
+
+    public static void markRestPose(EntityModel<?> model, long poseKey) {
+        REST_POSES.put(model, poseKey);
+    }
+
+    /**
+     * The model was posed for an animating entity, its rest pose is gone
+     */
+    public static void markAnimated(EntityModel<?> model) {
+        if (!REST_POSES.isEmpty()) {
+            REST_POSES.remove(model);
+        }
+    }
+
+    /**
+     * Called once per frame, models can also be posed outside the world renderer (inventory, GUI)
+     */
+    public static void beginFrame() {
+        REST_POSES.clear();
+    }
+
+    /**
+     * Everything about an entity that shapes its rest pose, frozen entities with the same key share it
+     */
+    public static long poseKey(LivingEntity entity) {
+        int flags = (entity.isBaby() ? 1 : 0)
+            | (entity.hasVehicle() ? 2 : 0)
+            | (entity.isInSneakingPose() ? 4 : 0)
+            | (entity.isUsingItem() ? 8 : 0)
+            | (entity.handSwinging ? 16 : 0)
+            | (entity instanceof MobEntity mob && mob.isAttacking() ? 32 : 0)
+            | (entity instanceof TameableEntity tameable && tameable.isInSittingPose() ? 64 : 0);
+        long items = (long) Registries.ITEM.getRawId(entity.getMainHandStack().getItem()) << 16
+            | Registries.ITEM.getRawId(entity.getOffHandStack().getItem());
+        return items << 16 | (long) entity.getPose().ordinal() << 8 | flags;
+    }
+}
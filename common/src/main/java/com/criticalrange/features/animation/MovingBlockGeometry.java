@@ -0,0 +1,106 @@
+package com.criticalrange.features.animation;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.util.math.MatrixStack;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * The quads of one block model, recorded once in block space and replayed for every moving block of that state
+ * Recording goes through the block model renderer like any other consumer, so shading and tints are baked in.
+ * Light and overlay are left out and supplied on replay.
+ */
+final class MovingBlockGeometry implements VertexConsumer {
+
+    // x, y, z, u, v, normal x, normal y, normal z
+    private static final int STRIDE = 8;
+
+    private final FloatArrayList vertices = new FloatArrayList();
+    private final IntArrayList colors = new IntArrayList();
+
+    @Override
+    public VertexConsumer vertex(float x, float y, float z) {
+        vertices.add(x);
+        vertices.add(y);
+        vertices.add(z);
+        for (int i = 3; i < STRIDE; i++) {
+            vertices.add(0.0F);
+        }
+        colors.add(-1);
+        return this;
+    }
+
+    @Override
+    public VertexConsumer color(int red, int green, int blue, int alpha) {
+        colors.set(colors.size() - 1, alpha << 24 | red << 16 | green << 8 | blue);
+        return this;
+    }
+
+    @Override
+    public VertexConsumer texture(float u, float v) {
+        int base = vertices.size() - STRIDE;
+        vertices.set(base + 3, u);
+        vertices.set(base + 4, v);
+        return this;
+    }
+
+    @Override
+    public VertexConsumer overlay(int u, int v) {
+        return this;
+    }
+
+    @Override
+    public VertexConsumer light(int u, int v) {
+        return this;
+    }
+
+    @Override
+    public VertexConsumer normal(float x, float y, float z) {
+        int base = vertices.size() - STRIDE;
+        vertices.set(base + 5, x);
+        vertices.set(base + 6, y);
+        vertices.set(base + 7, z);
+        return this;
+    }
+
+    @Override
+    public void vertex(float x, float y, float z, int color, float u, float v, int overlay, int light,
+                       float normalX, float normalY, float normalZ) {
+        vertices.add(x);
+        vertices.add(y);
+        vertices.add(z);
+        vertices.add(u);
+        vertices.add(v);
+        vertices.add(normalX);
+        vertices.add(normalY);
+        vertices.add(normalZ);
+        colors.add(color);
+    }
+
+    void trim() {
+        vertices.trim();
+        colors.trim();
+    }
+
+    /**
+     * Writes the recorded quads at the current matrix position
+     */
+    void emit(MatrixStack.Entry entry, VertexConsumer consumer, int light, int overlay) {
+        Matrix4f positionMatrix = entry.getPositionMatrix();
+        Matrix3f normalMatrix = entry.getNormalMatrix();
+        Vector3f position = new Vector3f();
+        Vector3f normal = new Vector3f();
+
+        float[] data = vertices.elements();
+        int[] packedColors = colors.elements();
+        for (int i = 0, v = 0; i < colors.size(); i++, v += STRIDE) {
+            positionMatrix.transformPosition(data[v], data[v + 1], data[v + 2], position);
+            normalMatrix.transform(data[v + 5], data[v + 6], data[v + 7], normal);
+            consumer.vertex(position.x, position.y, position.z, packedColors[i], data[v + 3], data[v + 4],
+                overlay, light, normal.x, normal.y, normal.z);
+        }
+    }
+}
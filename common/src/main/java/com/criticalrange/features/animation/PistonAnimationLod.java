@@ -0,0 +1,82 @@
+package com.criticalrange.features.animation;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.OverlayTexture;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.render.block.BlockModelRenderer;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.BlockRenderView;
+
+/**
+ * Static piston animation for distant moving blocks
+ *
+ * Beyond the configured distance a moving block is drawn at its final position right away, and instead of
+ * tessellating its block model every frame (model lookup, random variant, per-face light and ambient occlusion)
+ * it replays quads recorded once per block state, lit with the light at its position.
+ * A flying machine made of one kind of block records a single model and replays it for every moving block.
+ *
+ * Render thread only.
+ */
+public final class PistonAnimationLod {
+
+    // Block states whose moving geometry is kept, past this the recordings are dropped and rebuilt on demand
+    private static final int MAX_GEOMETRIES = 256;
+
+    private static final Reference2ObjectOpenHashMap<BlockState, MovingBlockGeometry> GEOMETRY = new Reference2ObjectOpenHashMap<>();
+
+    private PistonAnimationLod() {
+    }
+
+    /**
+     * Whether the moving block at this position is drawn at its final position from recorded geometry
+     */
+    public static boolean isStatic(BlockPos pos) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null || !config.renderSettings.pistonLod || pos == null) {
+            return false;
+        }
+
+        Entity camera = MinecraftClient.getInstance().getCameraEntity();
+        if (camera == null) {
+            return false;
+        }
+
+        double distance = config.renderSettings.pistonLodDistance;
+        return camera.squaredDistanceTo(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) > distance * distance;
+    }
+
+    /**
+     * Draws a distant moving block from its recorded geometry, recording it first if this state has none yet
+     */
+    public static void renderStatic(BlockModelRenderer renderer, BlockRenderView world, BakedModel model, BlockState state,
+                                    BlockPos pos, MatrixStack matrices, VertexConsumer consumer, long seed, int overlay) {
+        MovingBlockGeometry geometry = GEOMETRY.get(state);
+        if (geometry == null) {
+            geometry = new MovingBlockGeometry();
+            renderer.renderFlat(world, model, state, pos, new MatrixStack(), geometry, false, Random.create(), seed, OverlayTexture.DEFAULT_UV);
+            geometry.trim();
+
+            if (GEOMETRY.size() >= MAX_GEOMETRIES) {
+                GEOMETRY.clear();
+            }
+            GEOMETRY.put(state, geometry);
+        }
+        geometry.emit(matrices.peek(), consumer, WorldRenderer.getLightmapCoordinates(world, pos), overlay);
+    }
+
+    /**
+     * Models or resource packs changed, every recording is made again
+     */
+    public static void clear() {
+        GEOMETRY.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package com.criticalrange.features.animation;
+
+import com.criticalrange.VulkanModExtra;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.util.Identifier;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reduces disabled animated sprites to a single static frame at stitch time
+ * Frees the native memory of every other frame and keeps per-atlas totals for diagnostics
+ */
+public final class SpriteFrameStripper {
+
+    private static final Map<Identifier, StripStats> STATS_BY_ATLAS = new ConcurrentHashMap<>();
+
+    private SpriteFrameStripper() {
+    }
+
+    /**
+     * Called when an atlas starts uploading a new stitch result, previous totals no longer apply
+     */
+    public static void beginAtlas(Identifier atlasId) {
+        if (atlasId != null) {
+            STATS_BY_ATLAS.remove(atlasId);
+        }
+    }
+
+    /**
+     * Strip a sprite whose animation was blocked by the animation settings
+     */
+    public static void stripDisabledSprite(Identifier atlasId, Sprite sprite) {
+        if (atlasId == null || sprite == null || !(sprite.getContents() instanceof StrippableSpriteContents contents)) {
+            return;
+        }
+
+        try {
+            long released = contents.vulkanmodExtra$stripToFirstFrame();
+            if (released > 0) {
+                STATS_BY_ATLAS.merge(atlasId, new StripStats(1, released), StripStats::add);
+            }
+        } catch (Exception e) {
+            VulkanModExtra.LOGGER.warn("Failed to strip animation frames of {}: {}", sprite.getContents().getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Total native image bytes released across all atlases
+     */
+    public static long getBytesSaved() {
+        return STATS_BY_ATLAS.values().stream().mapToLong(StripStats::bytes).sum();
+    }
+
+    /**
+     * Number of sprites currently reduced to a single frame
+     */
+    public static int getStrippedSpriteCount() {
+        return STATS_BY_ATLAS.values().stream().mapToInt(StripStats::sprites).sum();
+    }
+
+    public static void reset() {
+        STATS_BY_ATLAS.clear();
+    }
+
+    private record StripStats(int sprites, long bytes) {
+        StripStats add(StripStats other) {
+            return new StripStats(sprites + other.sprites, bytes + other.bytes);
+        }
+    }
+}
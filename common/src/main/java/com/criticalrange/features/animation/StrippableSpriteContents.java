@@ -0,0 +1,19 @@
+package com.criticalrange.features.animation;
+
+/**
+ * Implemented on SpriteContents by MixinSpriteContents
+ * Lets the atlas hook drop the unused frames of a sprite whose animation is disabled
+ */
+public interface StrippableSpriteContents {
+
+    /**
+     * Replace the frame strip (and its mipmaps) with a copy of the first frame only
+     * @return number of native image bytes released, 0 if nothing was stripped
+     */
+    long vulkanmodExtra$stripToFirstFrame();
+
+    /**
+     * Check if this sprite has already been reduced to a single frame
+     */
+    boolean vulkanmodExtra$isStripped();
+}
@@ -0,0 +1,125 @@
+package com.criticalrange.features.blockentity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.features.fog.FogCulling;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Maximum render distance per block entity type
+ *
+ * The built-in types have their own distance settings. The table is keyed by block entity type id, so modded
+ * types can be added to {@link VulkanModExtraConfig.RenderSettings#blockEntityRenderDistances} by hand;
+ * configured entries override the settings and 0 removes the limit. Distances are resolved per type once and
+ * cached until the settings or the table change. Render thread only.
+ */
+public final class BlockEntityRenderDistances {
+
+    // Squared distance per type, 0 for no limit
+    private static final Map<BlockEntityType<?>, Double> RESOLVED = new IdentityHashMap<>();
+    private static int resolvedSettingsHash;
+
+    private BlockEntityRenderDistances() {
+    }
+
+    /**
+     * Called once per frame, drops the resolved distances when the settings or the table were edited
+     */
+    public static void beginFrame() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        int hash = config != null && config.renderSettings != null ? hashSettings(config.renderSettings) : 0;
+        if (hash != resolvedSettingsHash) {
+            resolvedSettingsHash = hash;
+            RESOLVED.clear();
+        }
+    }
+
+    /**
+     * Whether the block entity is drawn at all, folded into the renderer's own render distance check
+     * Renderers that say they draw outside their block (beacon beams, structure blocks, modded ones) are never fog culled
+     */
+    public static boolean shouldRender(BlockEntity blockEntity, boolean rendersOutsideBlock, double cameraX, double cameraY, double cameraZ) {
+        if (!isInRange(blockEntity, cameraX, cameraY, cameraZ)) {
+            return false;
+        }
+
+        if (rendersOutsideBlock) {
+            return true;
+        }
+
+        BlockPos pos = blockEntity.getPos();
+        return !FogCulling.isHiddenByFog(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + 1, pos.getZ() + 1,
+            cameraX, cameraY, cameraZ);
+    }
+
+    /**
+     * Whether the block entity is within the render distance of its type
+     */
+    public static boolean isInRange(BlockEntity blockEntity, double cameraX, double cameraY, double cameraZ) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null || !config.renderSettings.blockEntityRenderDistance) {
+            return true;
+        }
+
+        double maxDistanceSquared = RESOLVED.computeIfAbsent(blockEntity.getType(), BlockEntityRenderDistances::resolve);
+        if (maxDistanceSquared <= 0.0) {
+            return true;
+        }
+
+        BlockPos pos = blockEntity.getPos();
+        double dx = pos.getX() + 0.5 - cameraX;
+        double dy = pos.getY() + 0.5 - cameraY;
+        double dz = pos.getZ() + 0.5 - cameraZ;
+        return dx * dx + dy * dy + dz * dz <= maxDistanceSquared;
+    }
+
+    private static double resolve(BlockEntityType<?> type) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        Identifier id = Registries.BLOCK_ENTITY_TYPE.getId(type);
+        if (id == null || config == null || config.renderSettings == null) {
+            return 0.0;
+        }
+
+        String key = id.toString();
+        Map<String, Integer> table = config.renderSettings.blockEntityRenderDistances;
+        int distance = table != null && table.containsKey(key) ? table.get(key) : getBuiltInDistance(config.renderSettings, key);
+        if (distance <= 0) {
+            return 0.0;
+        }
+        return (double) distance * distance;
+    }
+
+    private static int getBuiltInDistance(VulkanModExtraConfig.RenderSettings settings, String key) {
+        return switch (key) {
+            case "minecraft:sign", "minecraft:hanging_sign" -> settings.signRenderDistance;
+            case "minecraft:banner" -> settings.bannerRenderDistance;
+            case "minecraft:skull" -> settings.skullRenderDistance;
+            case "minecraft:chest", "minecraft:trapped_chest", "minecraft:ender_chest" -> settings.chestRenderDistance;
+            case "minecraft:shulker_box" -> settings.shulkerBoxRenderDistance;
+            case "minecraft:decorated_pot" -> settings.decoratedPotRenderDistance;
+            case "minecraft:lectern" -> settings.lecternRenderDistance;
+            case "minecraft:campfire" -> settings.campfireRenderDistance;
+            default -> 0;
+        };
+    }
+
+    private static int hashSettings(VulkanModExtraConfig.RenderSettings settings) {
+        int hash = settings.blockEntityRenderDistances != null ? settings.blockEntityRenderDistances.hashCode() : 0;
+        hash = 31 * hash + settings.signRenderDistance;
+        hash = 31 * hash + settings.bannerRenderDistance;
+        hash = 31 * hash + settings.skullRenderDistance;
+        hash = 31 * hash + settings.chestRenderDistance;
+        hash = 31 * hash + settings.shulkerBoxRenderDistance;
+        hash = 31 * hash + settings.decoratedPotRenderDistance;
+        hash = 31 * hash + settings.lecternRenderDistance;
+        hash = 31 * hash + settings.campfireRenderDistance;
+        return hash;
+    }
+}
@@ -0,0 +1,17 @@
+package com.criticalrange.features.blockentity;
+
+import net.minecraft.text.OrderedText;
+
+/**
+ * Measured line widths kept on a sign's text, implemented on SignText by a mixin
+ * The widths belong to the ordered lines the text handed out last, they are dropped when it hands out new ones.
+ */
+public interface SignTextLayout {
+
+    /**
+     * @return the measured width of this line, or -1 when it has to be measured
+     */
+    int vulkanmodExtra$getLineWidth(OrderedText line);
+
+    void vulkanmodExtra$putLineWidth(OrderedText line, int width);
+}
@@ -0,0 +1,41 @@
+package com.criticalrange.features.blockentity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+
+/**
+ * Static mode for decorative block entities (signs, banners)
+ *
+ * Banners stop waving and stay at their rest pose, and sign lines are measured once per text
+ * instead of every frame. Chests, bells and other block entities that really animate keep
+ * animating, see {@link com.criticalrange.features.animation.BlockEntityAnimationLod} for those.
+ */
+public final class StaticBlockEntities {
+
+    // cos(0), the banner's rest pose
+    public static final float REST_WAVE = 1.0F;
+    // Bumped on every resource reload, sign line widths measured before it are stale
+    private static volatile long layoutGeneration;
+
+    private StaticBlockEntities() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null && config.renderSettings.staticBlockEntities;
+    }
+
+    /**
+     * Sign line widths measured in an older generation are measured again
+     */
+    public static long getLayoutGeneration() {
+        return layoutGeneration;
+    }
+
+    /**
+     * Called after fonts are reloaded, every sign measures its lines again
+     */
+    public static void invalidateLayouts() {
+        layoutGeneration++;
+    }
+}
@@ -0,0 +1,76 @@
+package com.criticalrange.features.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.decoration.ItemFrameEntity;
+import net.minecraft.entity.decoration.painting.PaintingEntity;
+
+/**
+ * Distance-based level of detail for decorative entities (item frames, armor stands, paintings)
+ *
+ * Within the detail distance they render as usual, up to their per-type render distance they render
+ * without their extras (framed item, worn equipment, name tag), and beyond it they are not rendered
+ */
+public final class DecorativeEntityLod {
+
+    public enum Tier {
+        FULL, REDUCED, HIDDEN
+    }
+
+    private DecorativeEntityLod() {
+    }
+
+    /**
+     * Tier of a decorative entity seen from the given camera position
+     */
+    public static Tier getTier(Entity entity, double cameraX, double cameraY, double cameraZ) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null || !config.renderSettings.decorativeEntityLod) {
+            return Tier.FULL;
+        }
+
+        int renderDistance = getRenderDistance(config.renderSettings, entity);
+        if (renderDistance <= 0) {
+            return Tier.FULL;
+        }
+
+        double distanceSquared = entity.squaredDistanceTo(cameraX, cameraY, cameraZ);
+        if (distanceSquared > (double) renderDistance * renderDistance) {
+            return Tier.HIDDEN;
+        }
+
+        double detailDistance = config.renderSettings.decorativeEntityDetailDistance;
+        return distanceSquared > detailDistance * detailDistance ? Tier.REDUCED : Tier.FULL;
+    }
+
+    /**
+     * Tier of a decorative entity seen from the camera entity
+     */
+    public static Tier getTier(Entity entity) {
+        Entity camera = MinecraftClient.getInstance().getCameraEntity();
+        if (camera == null || entity == null) {
+            return Tier.FULL;
+        }
+        return getTier(entity, camera.getX(), camera.getEyeY(), camera.getZ());
+    }
+
+    public static boolean isReduced(Entity entity) {
+        return getTier(entity) != Tier.FULL;
+    }
+
+    private static int getRenderDistance(VulkanModExtraConfig.RenderSettings settings, Entity entity) {
+        if (entity instanceof ItemFrameEntity) {
+            return settings.itemFrameRenderDistance;
+        }
+        if (entity instanceof ArmorStandEntity) {
+            return settings.armorStandRenderDistance;
+        }
+        if (entity instanceof PaintingEntity) {
+            return settings.paintingRenderDistance;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.criticalrange.features.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.entity.feature.ArmorFeatureRenderer;
+import net.minecraft.client.render.entity.feature.ElytraFeatureRenderer;
+import net.minecraft.client.render.entity.feature.FeatureRenderer;
+import net.minecraft.client.render.entity.feature.HeadFeatureRenderer;
+import net.minecraft.client.render.entity.feature.HeldItemFeatureRenderer;
+import net.minecraft.client.render.entity.feature.SaddleFeatureRenderer;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.player.PlayerEntity;
+
+/**
+ * Simplified models for distant entities
+ *
+ * Beyond the simplified model distance a mob is a handful of pixels, so it is drawn without
+ * its equipment layers (armor, held items, heads, elytra, saddles) and a dropped item stack is drawn as
+ * a single item instead of the pile. Layers that are part of the mob's look, like eyes, wool or
+ * a charged creeper's aura, stay. Render state versions decide while building the state and carry
+ * their own hooks. Players, the camera entity and glowing entities keep their full model,
+ * armor stands follow the decorative entity LOD.
+ */
+public final class DistantEntityLod {
+
+    private DistantEntityLod() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null && config.renderSettings.distantEntityLod;
+    }
+
+    /**
+     * Whether something this far from the camera is drawn with a simplified model
+     */
+    public static boolean isDistant(double squaredDistance) {
+        if (!isEnabled()) {
+            return false;
+        }
+        double distance = VulkanModExtra.CONFIG.renderSettings.distantEntityDistance;
+        return squaredDistance > distance * distance;
+    }
+
+    /**
+     * Whether the entity is drawn with a simplified model
+     */
+    public static boolean isDistant(Entity entity) {
+        if (!isEnabled() || entity == null || isExempt(entity)) {
+            return false;
+        }
+
+        Entity camera = MinecraftClient.getInstance().getCameraEntity();
+        if (camera == null) {
+            return false;
+        }
+        return isDistant(entity.squaredDistanceTo(camera.getX(), camera.getEyeY(), camera.getZ()));
+    }
+
+    /**
+     * Whether a feature layer is equipment a distant mob can be drawn without
+     */
+    public static boolean isEquipmentLayer(FeatureRenderer<?, ?> feature) {
+        return feature instanceof ArmorFeatureRenderer
+            || feature instanceof HeldItemFeatureRenderer
+            || feature instanceof HeadFeatureRenderer
+            || feature instanceof ElytraFeatureRenderer
+            || feature instanceof SaddleFeatureRenderer;
+    }
+
+    private static boolean isExempt(Entity entity) {
+        return entity instanceof PlayerEntity
+            || entity instanceof ArmorStandEntity
+            || entity == MinecraftClient.getInstance().getCameraEntity()
+            || entity.isGlowing();
+    }
+}
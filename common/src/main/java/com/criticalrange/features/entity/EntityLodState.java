@@ -0,0 +1,24 @@
+package com.criticalrange.features.entity;
+
+import com.criticalrange.features.animation.EntityAnimationLod;
+
+/**
+ * Level of detail decisions carried on a living entity's render state, implemented on LivingEntityRenderState
+ * by a mixin (1.21.2+). They are made while the state is built, where the entity is still at hand,
+ * and read while drawing from the state.
+ */
+public interface EntityLodState {
+
+    boolean vulkanmodExtra$isDistant();
+
+    void vulkanmodExtra$setDistant(boolean distant);
+
+    EntityAnimationLod.Band vulkanmodExtra$getAnimationBand();
+
+    /**
+     * @return the rest pose key of a frozen entity
+     */
+    long vulkanmodExtra$getPoseKey();
+
+    void vulkanmodExtra$setAnimation(EntityAnimationLod.Band band, long poseKey);
+}
@@ -0,0 +1,129 @@
+package com.criticalrange.features.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.Box;
+
+import java.util.Arrays;
+
+/**
+ * Global per-frame entity render budget, only the nearest entities up to the limit are rendered
+ *
+ * Visible entities are counted into a distance histogram while the frame decides what to render, and at the
+ * start of the next frame the histogram gives the cutoff bucket: everything nearer is rendered, the cutoff bucket
+ * is filled up to the limit and everything further away is skipped. No sorting, one frame of latency.
+ * With screen size weighting the distance is divided by the entity's size, so large entities count as nearer.
+ *
+ * Players, the camera entity and glowing entities are always rendered and do not use up the budget.
+ * Render thread only.
+ */
+public final class EntityRenderBudget {
+
+    private static final int BUCKETS = 128;
+    private static final double BUCKET_SIZE = 1.0;
+
+    private static final int[] COUNTS = new int[BUCKETS];
+
+    private static int cutoffBucket = BUCKETS;
+    private static int cutoffAllowance;
+    private static int remainingInCutoff;
+
+    // Metrics of the last frame
+    private static int visibleLastFrame;
+    private static int skippedLastFrame;
+    private static int visible;
+    private static int skipped;
+
+    private EntityRenderBudget() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null && config.renderSettings.entityRenderBudget;
+    }
+
+    /**
+     * Called once per frame before the world renders, turns the last frame's histogram into this frame's cutoff
+     */
+    public static void beginFrame() {
+        visibleLastFrame = visible;
+        skippedLastFrame = skipped;
+        visible = 0;
+        skipped = 0;
+
+        cutoffBucket = BUCKETS;
+        cutoffAllowance = 0;
+        if (isEnabled()) {
+            int limit = Math.max(1, VulkanModExtra.CONFIG.renderSettings.entityRenderLimit);
+            int cumulative = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                int count = COUNTS[bucket];
+                if (cumulative + count >= limit) {
+                    cutoffBucket = bucket;
+                    cutoffAllowance = limit - cumulative;
+                    break;
+                }
+                cumulative += count;
+            }
+        }
+        remainingInCutoff = cutoffAllowance;
+        Arrays.fill(COUNTS, 0);
+    }
+
+    /**
+     * Whether a visible entity falls outside this frame's budget
+     * @param cameraX camera position passed to EntityRenderDispatcher.shouldRender
+     */
+    public static boolean shouldSkip(Entity entity, double cameraX, double cameraY, double cameraZ) {
+        if (!isEnabled() || isExempt(entity)) {
+            return false;
+        }
+
+        int bucket = bucketOf(entity, cameraX, cameraY, cameraZ);
+        COUNTS[bucket]++;
+        visible++;
+
+        boolean skip;
+        if (bucket < cutoffBucket) {
+            skip = false;
+        } else if (bucket == cutoffBucket && remainingInCutoff > 0) {
+            remainingInCutoff--;
+            skip = false;
+        } else {
+            skip = true;
+        }
+
+        if (skip) {
+            skipped++;
+        }
+        return skip;
+    }
+
+    public static int getVisibleLastFrame() {
+        return visibleLastFrame;
+    }
+
+    public static int getSkippedLastFrame() {
+        return skippedLastFrame;
+    }
+
+    private static boolean isExempt(Entity entity) {
+        return entity instanceof PlayerEntity
+            || entity == MinecraftClient.getInstance().getCameraEntity()
+            || entity.isGlowing();
+    }
+
+    private static int bucketOf(Entity entity, double cameraX, double cameraY, double cameraZ) {
+        double distance = Math.sqrt(entity.squaredDistanceTo(cameraX, cameraY, cameraZ));
+        if (VulkanModExtra.CONFIG.renderSettings.entityBudgetScreenSize) {
+            // Projected size falls off with distance, so distance over size orders entities by screen size
+            Box box = entity.getBoundingBox();
+            double size = Math.max(box.getLengthX(), Math.max(box.getLengthY(), box.getLengthZ()));
+            distance /= Math.max(0.25, size);
+        }
+        return Math.min(BUCKETS - 1, (int) (distance / BUCKET_SIZE));
+    }
+}
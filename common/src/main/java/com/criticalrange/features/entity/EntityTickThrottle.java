@@ -0,0 +1,167 @@
+package com.criticalrange.features.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.mixins.render.MixinItemEntity;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.ExperienceOrbEntity;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.mob.Monster;
+import net.minecraft.entity.player.PlayerEntity;
+
+/**
+ * Distance-based throttling of client entity ticks
+ *
+ * Idle entities beyond the half rate distance tick every 2nd client tick, beyond the quarter rate
+ * distance every 4th, staggered by entity id so they do not all tick on the same tick.
+ * An entity that moved or turned during its last tick, or whose limbs are still swinging, keeps ticking every tick
+ * until it comes to rest, so the interpolation of its position, rotations and limbs is never stretched.
+ * A resting entity may only start moving a few ticks late.
+ * Players, the camera entity, vehicles with passengers and hurt or dying mobs always tick.
+ * A skipped tick still advances the item age of dropped items, so they keep spinning at the same speed.
+ *
+ * Advanced by the client world's entity tick, client thread only.
+ */
+public final class EntityTickThrottle {
+
+    public enum Category {
+        HOSTILE, PASSIVE, ITEM, OTHER
+    }
+
+    // Limb swing speed decays towards zero without reaching it, below this the swing is invisible
+    private static final float LIMB_REST_SPEED = 0.001F;
+
+    private static long tick;
+
+    // Metrics, per client tick
+    private static int ticked;
+    private static int skipped;
+    private static int lastTicked;
+    private static int lastSkipped;
+
+    private EntityTickThrottle() {
+    }
+
+    /**
+     * Called once per client world tick, before its entities tick
+     */
+    public static void beginTick() {
+        tick++;
+        lastTicked = ticked;
+        lastSkipped = skipped;
+        ticked = 0;
+        skipped = 0;
+    }
+
+    /**
+     * Whether the client tick of this entity should be skipped this tick
+     */
+    public static boolean shouldSkip(Entity entity) {
+        int interval = getInterval(entity);
+        if (interval > 1 && (tick + entity.getId()) % interval != 0) {
+            skipped++;
+            return true;
+        }
+        ticked++;
+        return false;
+    }
+
+    /**
+     * Called instead of the tick of a skipped entity, keeps the timers its rendering reads running
+     */
+    public static void onSkipped(Entity entity) {
+        if (entity instanceof ItemEntity item) {
+            MixinItemEntity accessor = (MixinItemEntity) item;
+            int itemAge = accessor.vulkanmodExtra$getItemAge();
+            // -32768 marks items that never despawn, their age is left alone like vanilla does
+            if (itemAge != -32768) {
+                accessor.vulkanmodExtra$setItemAge(itemAge + 1);
+            }
+        }
+    }
+
+    public static Category getCategory(Entity entity) {
+        if (entity instanceof Monster) {
+            return Category.HOSTILE;
+        }
+        if (entity instanceof LivingEntity) {
+            return Category.PASSIVE;
+        }
+        if (entity instanceof ItemEntity || entity instanceof ExperienceOrbEntity) {
+            return Category.ITEM;
+        }
+        return Category.OTHER;
+    }
+
+    // ===== METRICS =====
+
+    public static int getTickedLastTick() {
+        return lastTicked;
+    }
+
+    public static int getSkippedLastTick() {
+        return lastSkipped;
+    }
+
+    // ===== INTERNALS =====
+
+    private static int getInterval(Entity entity) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.optimizationSettings == null || !config.optimizationSettings.entityTickThrottle) {
+            return 1;
+        }
+
+        Entity camera = MinecraftClient.getInstance().getCameraEntity();
+        if (camera == null || entity == camera || entity instanceof PlayerEntity || entity.hasPassengers()
+            || !isCategoryThrottled(config.optimizationSettings, getCategory(entity))) {
+            return 1;
+        }
+
+        // Hurt and death animations are counted down in the tick
+        if (entity instanceof LivingEntity living && (living.hurtTime > 0 || living.deathTime > 0 || !living.isAlive())) {
+            return 1;
+        }
+
+        // Moved, turned or swung its limbs during its last tick, interpolation has to keep running every tick
+        if (!isAtRest(entity)) {
+            return 1;
+        }
+
+        var settings = config.optimizationSettings;
+        double distanceSquared = entity.squaredDistanceTo(camera);
+        double quarter = settings.entityTickQuarterRateDistance;
+        if (distanceSquared > quarter * quarter) {
+            return 4;
+        }
+        double half = settings.entityTickHalfRateDistance;
+        return distanceSquared > half * half ? 2 : 1;
+    }
+
+    /**
+     * Whether every value rendering interpolates between the last two ticks stayed the same
+     */
+    private static boolean isAtRest(Entity entity) {
+        if (entity.getX() != entity.prevX || entity.getY() != entity.prevY || entity.getZ() != entity.prevZ
+            || entity.getYaw() != entity.prevYaw || entity.getPitch() != entity.prevPitch) {
+            return false;
+        }
+        if (entity instanceof LivingEntity living) {
+            return living.headYaw == living.prevHeadYaw
+                && living.bodyYaw == living.prevBodyYaw
+                && living.limbAnimator.getSpeed() < LIMB_REST_SPEED
+                && living.limbAnimator.getSpeed(0.0F) < LIMB_REST_SPEED;
+        }
+        return true;
+    }
+
+    private static boolean isCategoryThrottled(VulkanModExtraConfig.OptimizationSettings settings, Category category) {
+        return switch (category) {
+            case HOSTILE -> settings.throttleHostileTicks;
+            case PASSIVE -> settings.throttlePassiveTicks;
+            case ITEM -> settings.throttleItemTicks;
+            case OTHER -> settings.throttleOtherTicks;
+        };
+    }
+}
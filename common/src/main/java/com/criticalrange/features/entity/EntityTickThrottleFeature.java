@@ -0,0 +1,22 @@
+package com.criticalrange.features.entity;
+
+import com.criticalrange.core.BaseFeature;
+import com.criticalrange.core.FeatureCategory;
+
+/**
+ * Entity tick throttling feature - reports the throttle's per-tick counts
+ * The throttle itself is advanced by the client world's entity tick, see {@link EntityTickThrottle#beginTick()}
+ */
+public class EntityTickThrottleFeature extends BaseFeature {
+
+    public EntityTickThrottleFeature() {
+        super("entity_tick_throttle", "Entity Tick Throttle", FeatureCategory.ENTITY,
+              "Tick distant idle entities less often on the client");
+    }
+
+    @Override
+    public String getDiagnosticInfo() {
+        return String.format("Feature: %s v%s (enabled: %b, ticked: %d, skipped: %d)", getName(), getVersion(), isEnabled(),
+            EntityTickThrottle.getTickedLastTick(), EntityTickThrottle.getSkippedLastTick());
+    }
+}
@@ -0,0 +1,174 @@
+package com.criticalrange.features.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.ExperienceOrbEntity;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Visual merging of dropped item and experience orb piles, purely client-side
+ *
+ * While a frame decides what to render, visible items and orbs are grouped by the block they are in,
+ * items only with identical stacks. At the start of the next frame every group of two or more becomes a cluster.
+ * The first member that gets through this frame stands in for the whole group, drawn with as many item models
+ * as the group's total count calls for, and the members seen after it are skipped. A stand-in culled by the
+ * entity render budget hands the cluster to the next member. Same one frame of latency as the entity render budget.
+ * Glowing entities are never merged.
+ *
+ * Render thread only.
+ */
+public final class ItemClusterMerging {
+
+    // Groups of the frame being rendered, by block
+    private static final Long2ObjectOpenHashMap<List<Group>> GROUPS = new Long2ObjectOpenHashMap<>();
+
+    // Clusters of the last frame: cluster of each member, total count and stand-in elected this frame
+    private static final Int2IntOpenHashMap CLUSTER_OF = new Int2IntOpenHashMap();
+    private static final IntArrayList CLUSTER_TOTALS = new IntArrayList();
+    private static final ObjectArrayList<Entity> STAND_INS = new ObjectArrayList<>();
+    private static final Reference2IntOpenHashMap<ItemStack> STACK_TOTALS = new Reference2IntOpenHashMap<>();
+
+    static {
+        CLUSTER_OF.defaultReturnValue(-1);
+    }
+
+    // Metrics
+    private static int mergedThisFrame;
+    private static int mergedLastFrame;
+
+    private ItemClusterMerging() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null && config.renderSettings.itemClusterMerging;
+    }
+
+    /**
+     * Called once per frame before the world renders, turns the last frame's groups into this frame's clusters
+     */
+    public static void beginFrame() {
+        CLUSTER_OF.clear();
+        CLUSTER_TOTALS.clear();
+        STAND_INS.clear();
+        STACK_TOTALS.clear();
+
+        if (isEnabled()) {
+            for (List<Group> groups : GROUPS.values()) {
+                for (Group group : groups) {
+                    if (group.members.size() < 2) {
+                        continue;
+                    }
+                    int cluster = CLUSTER_TOTALS.size();
+                    for (Entity member : group.members) {
+                        CLUSTER_OF.put(member.getId(), cluster);
+                    }
+                    CLUSTER_TOTALS.add(group.total);
+                    STAND_INS.add(null);
+                }
+            }
+        }
+
+        mergedLastFrame = mergedThisFrame;
+        mergedThisFrame = 0;
+        GROUPS.clear();
+    }
+
+    /**
+     * Record an entity that is about to be rendered, before the entity render budget
+     * @return true if it is drawn by its cluster's stand-in and must be skipped
+     */
+    public static boolean shouldSkip(Entity entity) {
+        if (!(entity instanceof ItemEntity || entity instanceof ExperienceOrbEntity) || entity.isGlowing() || !isEnabled()) {
+            return false;
+        }
+
+        ItemStack stack = entity instanceof ItemEntity item ? item.getStack() : null;
+        if (stack != null && stack.isEmpty()) {
+            return false;
+        }
+
+        List<Group> groups = GROUPS.computeIfAbsent(BlockPos.asLong(entity.getBlockX(), entity.getBlockY(), entity.getBlockZ()),
+            key -> new ArrayList<>(2));
+        Group group = null;
+        for (Group candidate : groups) {
+            if (stack == null ? candidate.stack == null
+                : candidate.stack != null && ItemStack.areItemsAndComponentsEqual(candidate.stack, stack)) {
+                group = candidate;
+                break;
+            }
+        }
+        if (group == null) {
+            group = new Group(stack);
+            groups.add(group);
+        }
+        group.members.add(entity);
+        group.total += stack != null ? stack.getCount() : 1;
+
+        int cluster = CLUSTER_OF.get(entity.getId());
+        if (cluster < 0) {
+            return false;
+        }
+
+        Entity standIn = STAND_INS.get(cluster);
+        if (standIn == null) {
+            // First member through this frame draws the pile
+            STAND_INS.set(cluster, entity);
+            if (stack != null) {
+                STACK_TOTALS.put(stack, CLUSTER_TOTALS.getInt(cluster));
+            }
+            return false;
+        }
+        if (standIn == entity) {
+            return false;
+        }
+
+        mergedThisFrame++;
+        return true;
+    }
+
+    /**
+     * An entity let through was culled afterwards, if it stood in for a cluster the next member takes over
+     */
+    public static void onCulled(Entity entity) {
+        int cluster = CLUSTER_OF.get(entity.getId());
+        if (cluster >= 0 && STAND_INS.get(cluster) == entity) {
+            STAND_INS.set(cluster, null);
+            if (entity instanceof ItemEntity item) {
+                STACK_TOTALS.removeInt(item.getStack());
+            }
+        }
+    }
+
+    /**
+     * Item count a stack is drawn with, the total of its cluster when it stands in for one
+     */
+    public static int getDrawnCount(ItemStack stack, int count) {
+        return STACK_TOTALS.isEmpty() ? count : STACK_TOTALS.getOrDefault(stack, count);
+    }
+
+    public static int getMergedLastFrame() {
+        return mergedLastFrame;
+    }
+
+    private static final class Group {
+        private final ItemStack stack;
+        private final List<Entity> members = new ArrayList<>(2);
+        private int total;
+
+        private Group(ItemStack stack) {
+            this.stack = stack;
+        }
+    }
+}
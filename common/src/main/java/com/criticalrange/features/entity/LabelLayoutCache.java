@@ -0,0 +1,45 @@
+package com.criticalrange.features.entity;
+
+import net.minecraft.text.StringVisitable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Layout cache for name tag text
+ * Every label measures its text each frame to centre it, which walks every glyph and style again.
+ * Label texts rarely change, so the measured width is kept per text, least recently used first out.
+ * A renamed entity hands out a different text, so entries only go stale when fonts are reloaded, which clears the cache.
+ *
+ * Render thread only.
+ */
+public final class LabelLayoutCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    private static final Map<StringVisitable, Integer> WIDTHS = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<StringVisitable, Integer> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private LabelLayoutCache() {
+    }
+
+    public static int getWidth(StringVisitable text, ToIntFunction<StringVisitable> measure) {
+        Integer width = WIDTHS.get(text);
+        if (width != null) {
+            return width;
+        }
+
+        int measured = measure.applyAsInt(text);
+        WIDTHS.put(text, measured);
+        return measured;
+    }
+
+    public static void clear() {
+        WIDTHS.clear();
+    }
+}
@@ -0,0 +1,57 @@
+package com.criticalrange.features.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.decoration.ItemFrameEntity;
+import net.minecraft.entity.player.PlayerEntity;
+
+/**
+ * Per-category name tag distance limits (players, armor stands, item frames, everything else)
+ * Holograms and nameplates on servers are mostly named armor stands, which get their own limit
+ */
+public final class NameTagCulling {
+
+    private NameTagCulling() {
+    }
+
+    /**
+     * Whether the label of an entity is hidden, measured from the camera entity
+     */
+    public static boolean isLabelHidden(Entity entity) {
+        Entity camera = MinecraftClient.getInstance().getCameraEntity();
+        if (camera == null || entity == null) {
+            return false;
+        }
+        return isLabelHidden(entity, entity.squaredDistanceTo(camera));
+    }
+
+    /**
+     * Whether the label of an entity is hidden
+     * @param squaredDistance squared distance to the camera as passed to hasLabel on 1.21.2+
+     */
+    public static boolean isLabelHidden(Entity entity, double squaredDistance) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null) {
+            return false;
+        }
+
+        var settings = config.renderSettings;
+        int distance;
+        if (entity instanceof PlayerEntity) {
+            if (!settings.playerNameTag) {
+                return true;
+            }
+            distance = settings.playerNameTagDistance;
+        } else if (entity instanceof ArmorStandEntity) {
+            distance = settings.armorStandNameTagDistance;
+        } else if (entity instanceof ItemFrameEntity) {
+            distance = settings.itemFrameNameTagDistance;
+        } else {
+            distance = settings.otherNameTagDistance;
+        }
+        return squaredDistance > (double) distance * distance;
+    }
+}
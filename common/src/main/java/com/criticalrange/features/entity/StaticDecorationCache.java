@@ -0,0 +1,155 @@
+package com.criticalrange.features.entity;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import it.unimi.dsi.fastutil.ints.Int2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongLinkedOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.decoration.ItemFrameEntity;
+import net.minecraft.entity.decoration.painting.PaintingEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.BlockRenderView;
+
+/**
+ * Per-frame light lookups of static decorative entities, kept until their chunk section is relit
+ *
+ * Paintings and item frames never move, yet every frame they look up their light again,
+ * once per block a painting covers. Each lookup is stored with the light version of its section,
+ * and a light change notification for the section bumps that version, so the next frame looks it up again.
+ * Both caches evict their least recently used entries one at a time, removed entities never clean up after themselves.
+ *
+ * Only the light lookups are kept. The decorations are not baked into the chunk mesh, their geometry
+ * is still built and drawn through the entity renderers every frame.
+ *
+ * Render thread only.
+ */
+public final class StaticDecorationCache {
+
+    private static final int MAX_BLOCK_ENTRIES = 32768;
+    private static final int MAX_ENTITY_ENTRIES = 16384;
+    // Past this many relit sections their versions are dropped and every cached entry goes stale once
+    private static final int MAX_SECTIONS = 16384;
+    private static final long MISSING = Long.MIN_VALUE;
+
+    private static final Long2IntOpenHashMap SECTION_VERSIONS = new Long2IntOpenHashMap();
+    private static final Long2LongLinkedOpenHashMap BLOCK_LIGHT = new Long2LongLinkedOpenHashMap();
+    private static final Int2LongLinkedOpenHashMap ENTITY_LIGHT = new Int2LongLinkedOpenHashMap();
+
+    static {
+        BLOCK_LIGHT.defaultReturnValue(MISSING);
+        ENTITY_LIGHT.defaultReturnValue(MISSING);
+    }
+
+    private static BlockRenderView cachedWorld;
+    private static int nextVersion;
+
+    private StaticDecorationCache() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null && config.renderSettings.staticDecorationCache;
+    }
+
+    public static boolean isStatic(Entity entity) {
+        return entity instanceof PaintingEntity || entity instanceof ItemFrameEntity;
+    }
+
+    /**
+     * Cached light of one block covered by a painting
+     * @return the light, or -1 when it has to be looked up again
+     */
+    public static int getBlockLight(BlockRenderView world, BlockPos pos) {
+        if (!isEnabled()) {
+            return -1;
+        }
+        checkWorld(world);
+
+        long cached = BLOCK_LIGHT.getAndMoveToLast(pos.asLong());
+        if (cached != MISSING && (int) (cached >>> 32) == SECTION_VERSIONS.get(ChunkSectionPos.toLong(pos))) {
+            return (int) cached;
+        }
+        return -1;
+    }
+
+    public static void putBlockLight(BlockPos pos, int light) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        int version = SECTION_VERSIONS.get(ChunkSectionPos.toLong(pos));
+        BLOCK_LIGHT.putAndMoveToLast(pos.asLong(), pack(version, light));
+        while (BLOCK_LIGHT.size() > MAX_BLOCK_ENTRIES) {
+            BLOCK_LIGHT.removeFirstLong();
+        }
+    }
+
+    /**
+     * Cached light of a whole item frame or painting
+     * @return the light, or -1 when it has to be looked up again
+     */
+    public static int getEntityLight(Entity entity) {
+        if (!isEnabled() || !isStatic(entity)) {
+            return -1;
+        }
+        checkWorld(entity.getWorld());
+
+        long cached = ENTITY_LIGHT.getAndMoveToLast(entity.getId());
+        if (cached != MISSING && (int) (cached >>> 32) == SECTION_VERSIONS.get(ChunkSectionPos.toLong(entity.getBlockPos()))) {
+            return (int) cached;
+        }
+        return -1;
+    }
+
+    public static void putEntityLight(Entity entity, int light) {
+        if (!isEnabled() || !isStatic(entity)) {
+            return;
+        }
+
+        int version = SECTION_VERSIONS.get(ChunkSectionPos.toLong(entity.getBlockPos()));
+        ENTITY_LIGHT.putAndMoveToLast(entity.getId(), pack(version, light));
+        while (ENTITY_LIGHT.size() > MAX_ENTITY_ENTRIES) {
+            ENTITY_LIGHT.removeFirstLong();
+        }
+    }
+
+    /**
+     * The light of a section changed, everything cached inside it is looked up again
+     */
+    public static void invalidateSection(ChunkSectionPos pos) {
+        if (BLOCK_LIGHT.isEmpty() && ENTITY_LIGHT.isEmpty()) {
+            return;
+        }
+
+        if (SECTION_VERSIONS.size() >= MAX_SECTIONS) {
+            // Sections without a version of their own fall back to a new base version, newer than anything cached
+            SECTION_VERSIONS.clear();
+            SECTION_VERSIONS.defaultReturnValue(++nextVersion);
+        }
+        SECTION_VERSIONS.put(pos.asLong(), ++nextVersion);
+    }
+
+    public static void clear() {
+        SECTION_VERSIONS.clear();
+        SECTION_VERSIONS.defaultReturnValue(0);
+        nextVersion = 0;
+        BLOCK_LIGHT.clear();
+        ENTITY_LIGHT.clear();
+        cachedWorld = null;
+    }
+
+    // ===== INTERNALS =====
+
+    private static void checkWorld(BlockRenderView world) {
+        if (world != cachedWorld) {
+            clear();
+            cachedWorld = world;
+        }
+    }
+
+    private static long pack(int version, int light) {
+        return ((long) version << 32) | (light & 0xFFFFFFFFL);
+    }
+}
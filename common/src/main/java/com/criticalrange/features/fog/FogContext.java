@@ -0,0 +1,180 @@
+package com.criticalrange.features.fog;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.registry.tag.FluidTags;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionTypes;
+
+/**
+ * Cached fog decision shared by every applyFog call of a frame
+ * applyFog runs several times per frame (terrain, sky, clouds), so the world lookups behind
+ * the fog toggles are only redone when the camera's world, block position or game tick changes,
+ * and the fog mode only when one of those or the fog settings change
+ *
+ * Render thread only.
+ */
+public final class FogContext {
+
+    /**
+     * What applyFog should do for the current camera
+     */
+    public enum FogMode {
+        VANILLA, DISABLED
+    }
+
+    /**
+     * Medium the camera is in, as far as the fog toggles are concerned
+     */
+    public enum FogMedium {
+        AIR, WATER, LAVA, POWDER_SNOW
+    }
+
+    private static World cachedWorld;
+    private static long cachedPos = Long.MIN_VALUE;
+    private static long cachedTime = Long.MIN_VALUE;
+    private static Identifier dimensionId;
+    private static FogMedium medium = FogMedium.AIR;
+
+    private static int cachedSettings = -1;
+    private static FogMode mode = FogMode.VANILLA;
+
+    private static float terrainFogEnd = Float.NaN;
+    private static boolean terrainFogCylinder;
+
+    private FogContext() {
+    }
+
+    /**
+     * Resolve the fog mode for the camera's focused entity position
+     * @param world world of the focused entity, null when there is none
+     */
+    public static FogMode resolve(World world, BlockPos pos) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null) {
+            return FogMode.VANILLA;
+        }
+
+        boolean environmentChanged = false;
+        if (world != null && pos != null) {
+            environmentChanged = updateEnvironment(world, pos);
+        } else if (cachedWorld != null) {
+            cachedWorld = null;
+            dimensionId = null;
+            medium = FogMedium.AIR;
+            environmentChanged = true;
+        }
+
+        int settings = packSettings(config.renderSettings);
+        if (environmentChanged || settings != cachedSettings) {
+            cachedSettings = settings;
+            mode = computeMode(config.renderSettings);
+        }
+
+        // Disabled fog cancels applyFog before the terrain fog end can be recorded
+        if (mode == FogMode.DISABLED || environmentChanged) {
+            terrainFogEnd = Float.NaN;
+        }
+        return mode;
+    }
+
+    /**
+     * Record the terrain fog computed by applyFog, used for fog culling
+     * @param cylinder true for cylindrical fog, which only fades with horizontal distance
+     */
+    public static void recordTerrainFog(float fogEnd, boolean cylinder) {
+        terrainFogEnd = fogEnd;
+        terrainFogCylinder = cylinder;
+    }
+
+    /**
+     * Distance at which terrain is fully fogged, NaN when unknown or fog is disabled
+     */
+    public static float getTerrainFogEnd() {
+        return terrainFogEnd;
+    }
+
+    public static boolean isTerrainFogCylinder() {
+        return terrainFogCylinder;
+    }
+
+    public static Identifier getDimensionId() {
+        return dimensionId;
+    }
+
+    public static FogMedium getMedium() {
+        return medium;
+    }
+
+    private static boolean updateEnvironment(World world, BlockPos pos) {
+        long packedPos = pos.asLong();
+        long time = world.getTime();
+        if (world == cachedWorld && packedPos == cachedPos && time == cachedTime) {
+            return false;
+        }
+
+        boolean worldChanged = world != cachedWorld;
+        if (worldChanged) {
+            cachedWorld = world;
+            // Dimension type never changes for a world instance
+            dimensionId = world.getDimensionEntry().getKey().map(key -> key.getValue()).orElse(null);
+        }
+        cachedPos = packedPos;
+        cachedTime = time;
+
+        FogMedium previous = medium;
+        FluidState fluidState = world.getFluidState(pos);
+        if (fluidState.isIn(FluidTags.WATER)) {
+            medium = FogMedium.WATER;
+        } else if (fluidState.isIn(FluidTags.LAVA)) {
+            medium = FogMedium.LAVA;
+        } else if (world.getBlockState(pos).isOf(Blocks.POWDER_SNOW)) {
+            medium = FogMedium.POWDER_SNOW;
+        } else {
+            medium = FogMedium.AIR;
+        }
+
+        return worldChanged || previous != medium;
+    }
+
+    private static FogMode computeMode(VulkanModExtraConfig.RenderSettings renderSettings) {
+        // Master fog toggle - if disabled, block all fog
+        if (!renderSettings.fog) {
+            return FogMode.DISABLED;
+        }
+
+        // Dimension-specific fog settings first
+        if (dimensionId != null) {
+            if (dimensionId.equals(DimensionTypes.OVERWORLD_ID) && !renderSettings.overworldFog) return FogMode.DISABLED;
+            if (dimensionId.equals(DimensionTypes.THE_NETHER_ID) && !renderSettings.netherFog) return FogMode.DISABLED;
+            if (dimensionId.equals(DimensionTypes.THE_END_ID) && !renderSettings.endFog) return FogMode.DISABLED;
+        }
+
+        // Environment-specific fog settings (applies to all dimensions)
+        return switch (medium) {
+            case WATER -> renderSettings.waterFog ? FogMode.VANILLA : FogMode.DISABLED;
+            case LAVA -> renderSettings.lavaFog ? FogMode.VANILLA : FogMode.DISABLED;
+            case POWDER_SNOW -> renderSettings.powderSnowFog ? FogMode.VANILLA : FogMode.DISABLED;
+            case AIR -> FogMode.VANILLA;
+        };
+    }
+
+    /**
+     * Pack the fog toggles so a settings change is noticed without comparing fields one by one
+     */
+    private static int packSettings(VulkanModExtraConfig.RenderSettings renderSettings) {
+        int bits = 0;
+        if (renderSettings.fog) bits |= 1;
+        if (renderSettings.overworldFog) bits |= 1 << 1;
+        if (renderSettings.netherFog) bits |= 1 << 2;
+        if (renderSettings.endFog) bits |= 1 << 3;
+        if (renderSettings.waterFog) bits |= 1 << 4;
+        if (renderSettings.lavaFog) bits |= 1 << 5;
+        if (renderSettings.powderSnowFog) bits |= 1 << 6;
+        return bits;
+    }
+}
@@ -0,0 +1,59 @@
+package com.criticalrange.features.fog;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.util.math.Box;
+
+/**
+ * Skips entities and block entities that are completely hidden by terrain fog
+ * Uses the fog end recorded by the fog renderer, so culling follows every fog change (Nether, water, lava, blindness)
+ *
+ * Tests the point of the bounding box nearest to the camera, an object is only culled when all of it is past the fog end
+ */
+public final class FogCulling {
+
+    private FogCulling() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null && config.renderSettings.fogCulling;
+    }
+
+    /**
+     * Whether a box is entirely beyond the terrain fog end as seen from the camera
+     */
+    public static boolean isHiddenByFog(Box box, double cameraX, double cameraY, double cameraZ) {
+        return isHiddenByFog(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ, cameraX, cameraY, cameraZ);
+    }
+
+    public static boolean isHiddenByFog(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                                        double cameraX, double cameraY, double cameraZ) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        float fogEnd = FogContext.getTerrainFogEnd();
+        if (Float.isNaN(fogEnd) || fogEnd <= 0.0F) {
+            return false;
+        }
+
+        double dx = axisDistance(cameraX, minX, maxX);
+        double dz = axisDistance(cameraZ, minZ, maxZ);
+        double distanceSquared = dx * dx + dz * dz;
+
+        // Cylindrical fog only fades horizontally
+        if (!FogContext.isTerrainFogCylinder()) {
+            double dy = axisDistance(cameraY, minY, maxY);
+            distanceSquared += dy * dy;
+        }
+
+        return distanceSquared > (double) fogEnd * fogEnd;
+    }
+
+    private static double axisDistance(double camera, double min, double max) {
+        if (camera < min) return min - camera;
+        if (camera > max) return camera - max;
+        return 0.0;
+    }
+}
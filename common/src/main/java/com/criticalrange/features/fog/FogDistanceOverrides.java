@@ -0,0 +1,143 @@
+package com.criticalrange.features.fog;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.util.VersionHelper;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.dimension.DimensionTypes;
+
+/**
+ * Per-dimension and per-environment fog start/end multipliers, plus the matching render distance hint
+ * Environment multipliers (water, lava, powder snow) take over from the dimension ones while the camera is inside
+ *
+ * The render distance hint only clamps what the terrain renderer sees, the game renderer reads the unclamped
+ * distance for the fog itself. 1.21.6 reworked the fog renderer around the view distance, the hint is off there.
+ */
+public final class FogDistanceOverrides {
+
+    // Vanilla Nether fog ends at half the view distance, capped at 192 blocks
+    private static final float THICK_FOG_MAX_DISTANCE = 192.0F;
+
+    private static final boolean HINT_SUPPORTED = VersionHelper.isLessThan("1.21.6");
+
+    private static ClientWorld hintWorld;
+    private static Identifier hintDimension;
+    // Set while the game renderer reads the view distance it derives the fog from
+    private static boolean readingFogDistance;
+
+    private FogDistanceOverrides() {
+    }
+
+    public static float scaleStart(float fogStart) {
+        VulkanModExtraConfig.RenderSettings settings = getSettings();
+        return settings == null ? fogStart : fogStart * getStartPercent(settings) / 100.0F;
+    }
+
+    public static float scaleEnd(float fogEnd) {
+        VulkanModExtraConfig.RenderSettings settings = getSettings();
+        return settings == null ? fogEnd : fogEnd * getEndPercent(settings) / 100.0F;
+    }
+
+    /**
+     * Whether any multiplier differs from vanilla, lets the fog hooks skip their work in the default case
+     */
+    public static boolean isActive() {
+        VulkanModExtraConfig.RenderSettings settings = getSettings();
+        return settings != null && (getStartPercent(settings) != 100 || getEndPercent(settings) != 100);
+    }
+
+    /**
+     * Render distance in chunks past which the current dimension's terrain fog hides everything
+     * @param viewDistance the render distance the game would use otherwise
+     */
+    public static int getEffectiveViewDistance(int viewDistance) {
+        VulkanModExtraConfig.RenderSettings settings = getSettings();
+        if (!HINT_SUPPORTED || readingFogDistance || settings == null || !settings.fogRenderDistanceHint || !settings.fog) {
+            return viewDistance;
+        }
+
+        Identifier dimension = getCurrentDimension();
+        if (dimension == null) {
+            return viewDistance;
+        }
+
+        int endPercent;
+        boolean thickFog = false;
+        if (dimension.equals(DimensionTypes.OVERWORLD_ID)) {
+            if (!settings.overworldFog) return viewDistance;
+            endPercent = settings.overworldFogEnd;
+        } else if (dimension.equals(DimensionTypes.THE_NETHER_ID)) {
+            if (!settings.netherFog) return viewDistance;
+            endPercent = settings.netherFogEnd;
+            thickFog = true;
+        } else if (dimension.equals(DimensionTypes.THE_END_ID)) {
+            if (!settings.endFog) return viewDistance;
+            endPercent = settings.endFogEnd;
+        } else {
+            return viewDistance;
+        }
+
+        float fogEnd = viewDistance * 16.0F;
+        if (thickFog) {
+            fogEnd = Math.min(fogEnd, THICK_FOG_MAX_DISTANCE) * 0.5F;
+        }
+        fogEnd = fogEnd * endPercent / 100.0F;
+
+        // One extra chunk so sections straddling the fog end are still built
+        int chunks = (int) Math.ceil(fogEnd / 16.0F) + 1;
+        return Math.max(2, Math.min(viewDistance, chunks));
+    }
+
+    /**
+     * Brackets the game renderer's view distance read, the fog keeps using the distance the player set
+     */
+    public static void setReadingFogDistance(boolean reading) {
+        readingFogDistance = reading;
+    }
+
+    private static int getStartPercent(VulkanModExtraConfig.RenderSettings settings) {
+        return switch (FogContext.getMedium()) {
+            case WATER -> settings.waterFogStart;
+            case LAVA -> settings.lavaFogStart;
+            case POWDER_SNOW -> settings.powderSnowFogStart;
+            case AIR -> getDimensionPercent(settings.overworldFogStart, settings.netherFogStart, settings.endFogStart);
+        };
+    }
+
+    private static int getEndPercent(VulkanModExtraConfig.RenderSettings settings) {
+        return switch (FogContext.getMedium()) {
+            case WATER -> settings.waterFogEnd;
+            case LAVA -> settings.lavaFogEnd;
+            case POWDER_SNOW -> settings.powderSnowFogEnd;
+            case AIR -> getDimensionPercent(settings.overworldFogEnd, settings.netherFogEnd, settings.endFogEnd);
+        };
+    }
+
+    private static int getDimensionPercent(int overworld, int nether, int end) {
+        Identifier dimension = FogContext.getDimensionId();
+        if (dimension == null) return 100;
+        if (dimension.equals(DimensionTypes.OVERWORLD_ID)) return overworld;
+        if (dimension.equals(DimensionTypes.THE_NETHER_ID)) return nether;
+        if (dimension.equals(DimensionTypes.THE_END_ID)) return end;
+        return 100;
+    }
+
+    /**
+     * The view distance is queried many times per frame, so the dimension is only looked up when the world changes
+     */
+    private static Identifier getCurrentDimension() {
+        ClientWorld world = MinecraftClient.getInstance().world;
+        if (world != hintWorld) {
+            hintWorld = world;
+            hintDimension = world != null ? world.getDimensionEntry().getKey().map(key -> key.getValue()).orElse(null) : null;
+        }
+        return hintDimension;
+    }
+
+    private static VulkanModExtraConfig.RenderSettings getSettings() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null ? config.renderSettings : null;
+    }
+}
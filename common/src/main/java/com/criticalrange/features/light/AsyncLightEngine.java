@@ -0,0 +1,201 @@
+package com.criticalrange.features.light;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientChunkManager;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.LightType;
+import net.minecraft.world.chunk.light.LightingProvider;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Opt-in off-thread light propagation for the client world
+ * Follows the server's threaded light engine: every call that mutates the client light engine is
+ * forwarded to a single worker thread in order, and doLightUpdates runs there too.
+ *
+ * Light levels are read from the copy of the section arrays the light storage publishes at the end of
+ * doLightUpdates. That is not a full snapshot: the storage's section bookkeeping sets are still read from
+ * the render thread while the worker changes them, and no double buffering is done on top of that.
+ * A read can miss a section the worker is adding or removing, which is why the option stays experimental.
+ * Section change notifications raised while publishing are held back and replayed on the render thread,
+ * so sections are only marked dirty once their light is visible.
+ * Notifications are tagged with the chunk manager that raised them, so a world change drops them.
+ */
+public final class AsyncLightEngine {
+
+    private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "VulkanMod Extra Light Worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final AtomicInteger PENDING_TASKS = new AtomicInteger();
+    private static final Queue<SectionNotification> PENDING_NOTIFICATIONS = new ConcurrentLinkedQueue<>();
+    // Timing of the last finished worker pass, taken by the scheduler on the render thread
+    private static final AtomicReference<CompletedPass> COMPLETED_PASS = new AtomicReference<>();
+
+    private static volatile Thread workerThread;
+    private static volatile int lastProcessed;
+    private static Future<?> updateJob;
+
+    private AsyncLightEngine() {
+    }
+
+    public static boolean isEnabled() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null && config.renderSettings.asyncLightEngine;
+    }
+
+    public static boolean isWorkerThread() {
+        return Thread.currentThread() == workerThread;
+    }
+
+    /**
+     * Forward a mutating light engine call to the worker
+     * @param call re-invokes the intercepted method, it passes through when run on the worker
+     * @return true if the call was forwarded and the caller must not run it
+     */
+    public static boolean forward(LightingProvider provider, Runnable call) {
+        if (!isRenderThreadCall(provider)) {
+            return false;
+        }
+
+        // Work already queued on the worker has to finish first, even right after the mode was turned off
+        if (!isEnabled() && PENDING_TASKS.get() == 0) {
+            return false;
+        }
+
+        submit(call);
+        return true;
+    }
+
+    /**
+     * Called at the start of doLightUpdates on the render thread
+     * @return true if the render thread call must be skipped because the worker does the propagation
+     */
+    public static boolean onDoLightUpdates(LightingProvider provider) {
+        if (!isRenderThreadCall(provider)) {
+            return false;
+        }
+
+        publishNotifications();
+
+        if (!isEnabled()) {
+            if (PENDING_TASKS.get() > 0) {
+                // Switching back to synchronous lighting, let the worker drain so call order is kept
+                awaitIdle();
+                publishNotifications();
+            }
+            return false;
+        }
+
+        // Previous propagation still running, its results get published when it is done
+        if (updateJob != null && !updateJob.isDone()) {
+            return true;
+        }
+
+        updateJob = submit(() -> {
+            long start = System.nanoTime();
+            int processed = provider.doLightUpdates();
+            long elapsed = System.nanoTime() - start;
+            lastProcessed = processed;
+            LightingMetrics.recordPass(processed, elapsed);
+            COMPLETED_PASS.set(new CompletedPass(processed, elapsed));
+        });
+        return true;
+    }
+
+    /**
+     * Hold back a section notification raised on the worker
+     * @return true if the notification was queued for the render thread
+     */
+    public static boolean deferNotification(ClientChunkManager manager, LightType type, ChunkSectionPos pos) {
+        if (!isWorkerThread()) {
+            return false;
+        }
+
+        PENDING_NOTIFICATIONS.add(new SectionNotification(manager, type, pos));
+        return true;
+    }
+
+    /**
+     * Timing of the worker pass finished since the last call, measured on the worker without queue latency
+     * @return the pass, or null if none finished
+     */
+    public static CompletedPass takeCompletedPass() {
+        return COMPLETED_PASS.getAndSet(null);
+    }
+
+    // ===== METRICS =====
+
+    public static int getPendingTasks() {
+        return PENDING_TASKS.get();
+    }
+
+    public static int getLastProcessed() {
+        return lastProcessed;
+    }
+
+    public static boolean isPropagating() {
+        return updateJob != null && !updateJob.isDone();
+    }
+
+    // ===== INTERNALS =====
+
+    private static boolean isRenderThreadCall(LightingProvider provider) {
+        if (isWorkerThread()) {
+            return false;
+        }
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        return client != null && client.world != null && client.isOnThread()
+            && provider == client.world.getLightingProvider();
+    }
+
+    private static Future<?> submit(Runnable task) {
+        PENDING_TASKS.incrementAndGet();
+        return WORKER.submit(() -> {
+            workerThread = Thread.currentThread();
+            try {
+                task.run();
+            } catch (Exception e) {
+                VulkanModExtra.LOGGER.warn("Light worker task failed: {}", e.getMessage());
+            } finally {
+                PENDING_TASKS.decrementAndGet();
+            }
+        });
+    }
+
+    private static void awaitIdle() {
+        try {
+            WORKER.submit(() -> { }).get();
+        } catch (Exception e) {
+            VulkanModExtra.LOGGER.warn("Failed to wait for the light worker: {}", e.getMessage());
+        }
+    }
+
+    private static void publishNotifications() {
+        ClientWorld world = MinecraftClient.getInstance().world;
+        ClientChunkManager manager = world != null ? world.getChunkManager() : null;
+        SectionNotification notification;
+        while ((notification = PENDING_NOTIFICATIONS.poll()) != null) {
+            // Raised for a world that has been left since, its sections are gone
+            if (notification.manager() == manager) {
+                manager.onLightUpdate(notification.type(), notification.pos());
+            }
+        }
+    }
+
+    private record SectionNotification(ClientChunkManager manager, LightType type, ChunkSectionPos pos) {}
+
+    public record CompletedPass(int processed, long nanos) {}
+}
@@ -0,0 +1,181 @@
+package com.criticalrange.features.light;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.LightType;
+
+/**
+ * Collapses repeated light work caused by flickering light sources (redstone clocks, observers, daylight sensors)
+ *
+ * A block position relit within the coalescing window is held in the light update queue until the window
+ * has passed, so every toggle in between collapses into one check of the final state.
+ * Light-triggered section rebuilds are debounced the same way, one rebuild per section per window.
+ *
+ * Render thread only.
+ */
+public final class LightUpdateCoalescer {
+
+    private static final long PRUNE_INTERVAL_MS = 1000L;
+
+    private static final Long2LongOpenHashMap LAST_RELEASE = new Long2LongOpenHashMap();
+    private static final Long2LongOpenHashMap LAST_REBUILD = new Long2LongOpenHashMap();
+    private static final LongOpenHashSet PENDING_REBUILDS = new LongOpenHashSet();
+
+    private static boolean flushing;
+    private static long lastPruneMs;
+
+    // Metrics
+    private static int heldLastFrame;
+    private static long coalescedChecks;
+    private static long debouncedRebuilds;
+
+    private LightUpdateCoalescer() {
+    }
+
+    public static long getWindowMs() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null ? Math.max(0, config.renderSettings.lightCoalescingWindow) : 0L;
+    }
+
+    public static long now() {
+        return System.nanoTime() / 1_000_000L;
+    }
+
+    // ===== POSITION COALESCING =====
+
+    /**
+     * Whether a queued light check has to wait because its position was relit within the window
+     */
+    public static boolean shouldHold(long packedPos, long nowMs, long windowMs) {
+        if (windowMs <= 0L) {
+            return false;
+        }
+
+        long last = LAST_RELEASE.getOrDefault(packedPos, Long.MIN_VALUE);
+        return last != Long.MIN_VALUE && nowMs - last < windowMs;
+    }
+
+    public static void markReleased(long packedPos, long nowMs, long windowMs) {
+        if (windowMs > 0L) {
+            LAST_RELEASE.put(packedPos, nowMs);
+        }
+    }
+
+    public static void recordFrame(int held) {
+        heldLastFrame = held;
+    }
+
+    /**
+     * A check for a position that is already queued or held, it merges into the pending one
+     */
+    public static void recordCoalesced() {
+        coalescedChecks++;
+    }
+
+    // ===== SECTION REBUILD DEBOUNCE =====
+
+    /**
+     * Debounce a light-triggered section rebuild
+     * @return true if the rebuild was postponed and the caller must not schedule it now
+     */
+    public static boolean deferRebuild(ChunkSectionPos pos) {
+        long windowMs = getWindowMs();
+        if (flushing || windowMs <= 0L || AsyncLightEngine.isWorkerThread() || !MinecraftClient.getInstance().isOnThread()) {
+            return false;
+        }
+
+        long sectionPos = pos.asLong();
+        long nowMs = now();
+        long last = LAST_REBUILD.getOrDefault(sectionPos, Long.MIN_VALUE);
+        if (last == Long.MIN_VALUE || nowMs - last >= windowMs) {
+            LAST_REBUILD.put(sectionPos, nowMs);
+            return false;
+        }
+
+        if (PENDING_REBUILDS.add(sectionPos)) {
+            debouncedRebuilds++;
+        }
+        return true;
+    }
+
+    /**
+     * Schedule the postponed rebuilds whose window has passed, called once per frame
+     */
+    public static void flushRebuilds() {
+        long nowMs = now();
+        long windowMs = getWindowMs();
+
+        if (!PENDING_REBUILDS.isEmpty()) {
+            ClientWorld world = MinecraftClient.getInstance().world;
+            flushing = true;
+            try {
+                LongIterator iterator = PENDING_REBUILDS.iterator();
+                while (iterator.hasNext()) {
+                    long sectionPos = iterator.nextLong();
+                    if (world == null) {
+                        iterator.remove();
+                        continue;
+                    }
+
+                    long last = LAST_REBUILD.getOrDefault(sectionPos, Long.MIN_VALUE);
+                    if (last == Long.MIN_VALUE || nowMs - last >= windowMs) {
+                        iterator.remove();
+                        LAST_REBUILD.put(sectionPos, nowMs);
+                        // Both light types schedule the same rebuild
+                        world.getChunkManager().onLightUpdate(LightType.BLOCK, ChunkSectionPos.from(sectionPos));
+                    }
+                }
+            } finally {
+                flushing = false;
+            }
+        }
+
+        if (nowMs - lastPruneMs >= PRUNE_INTERVAL_MS) {
+            lastPruneMs = nowMs;
+            prune(LAST_RELEASE, nowMs, windowMs);
+            prune(LAST_REBUILD, nowMs, windowMs);
+        }
+    }
+
+    public static void clear() {
+        LAST_RELEASE.clear();
+        LAST_REBUILD.clear();
+        PENDING_REBUILDS.clear();
+        heldLastFrame = 0;
+    }
+
+    // ===== METRICS =====
+
+    public static int getHeldLastFrame() {
+        return heldLastFrame;
+    }
+
+    public static int getPendingRebuilds() {
+        return PENDING_REBUILDS.size();
+    }
+
+    public static long getCoalescedChecks() {
+        return coalescedChecks;
+    }
+
+    public static long getDebouncedRebuilds() {
+        return debouncedRebuilds;
+    }
+
+    private static void prune(Long2LongOpenHashMap map, long nowMs, long windowMs) {
+        ObjectIterator<Long2LongMap.Entry> iterator = map.long2LongEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            if (nowMs - iterator.next().getLongValue() >= windowMs) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.criticalrange.features.light;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.light.LightingProvider;
+
+/**
+ * Time-budgeted scheduler for client light updates
+ * Block light checks are queued instead of going straight to the light engine, and every frame
+ * the nearest ones are released into the engine, as many as fit in the configured microsecond budget.
+ * Whatever does not fit stays queued for the next frame, nothing is dropped.
+ * Repeated checks of the same position are merged by the {@link LightUpdateCoalescer}.
+ *
+ * Only the client world's lighting provider on the render thread is scheduled, the integrated
+ * server keeps vanilla behaviour.
+ */
+public final class LightUpdateScheduler {
+
+    // Chunk rings around the camera, checks further away share the last ring
+    private static final int DISTANCE_BUCKETS = 64;
+    // Always release this many checks per frame so lighting can never stall completely
+    private static final int MIN_BATCH = 64;
+    // Starting estimate before any update has been measured
+    private static final long INITIAL_NANOS_PER_UPDATE = 2_000L;
+
+    private static final LongArrayFIFOQueue[] BUCKETS = new LongArrayFIFOQueue[DISTANCE_BUCKETS];
+    private static final LongOpenHashSet QUEUED = new LongOpenHashSet();
+    private static final BlockPos.Mutable RELEASE_POS = new BlockPos.Mutable();
+
+    static {
+        for (int i = 0; i < DISTANCE_BUCKETS; i++) {
+            BUCKETS[i] = new LongArrayFIFOQueue();
+        }
+    }
+
+    private static LightingProvider scheduledProvider;
+    private static boolean releasing;
+    private static long updateStartNanos;
+    private static long nanosPerUpdate = INITIAL_NANOS_PER_UPDATE;
+
+    // Metrics of the last frame
+    private static int lastReleased;
+    private static int lastProcessed;
+    private static long lastUpdateNanos;
+
+    private LightUpdateScheduler() {
+    }
+
+    /**
+     * Queue a block light check instead of handing it to the engine right away
+     * @return true if the check was queued and the caller must not forward it
+     */
+    public static boolean defer(LightingProvider provider, BlockPos pos) {
+        if (releasing || !isScheduled(provider)) {
+            return false;
+        }
+
+        long packedPos = pos.asLong();
+        if (QUEUED.add(packedPos)) {
+            BUCKETS[bucketOf(pos.getX(), pos.getZ())].enqueue(packedPos);
+        } else {
+            LightUpdateCoalescer.recordCoalesced();
+        }
+        return true;
+    }
+
+    /**
+     * Called before the engine processes its updates, releases the nearest queued checks within the budget
+     */
+    public static void beginUpdates(LightingProvider provider) {
+        if (!isScheduled(provider)) {
+            return;
+        }
+
+        LightUpdateCoalescer.flushRebuilds();
+
+        // Off-thread passes are timed on the worker, the render thread folds them into the estimate
+        AsyncLightEngine.CompletedPass pass = AsyncLightEngine.takeCompletedPass();
+        if (pass != null) {
+            lastProcessed = pass.processed();
+            lastUpdateNanos = pass.nanos();
+            updateEstimate(pass.processed(), pass.nanos());
+        }
+
+        int batch = Math.max(MIN_BATCH, (int) Math.min(Integer.MAX_VALUE, getBudgetNanos() / Math.max(1L, nanosPerUpdate)));
+        int released = 0;
+        int held = 0;
+        long nowMs = LightUpdateCoalescer.now();
+        long windowMs = LightUpdateCoalescer.getWindowMs();
+
+        releasing = true;
+        try {
+            for (int bucket = 0; bucket < DISTANCE_BUCKETS && released < batch; bucket++) {
+                LongArrayFIFOQueue queue = BUCKETS[bucket];
+                int remaining = queue.size();
+                // Positions relit within the coalescing window go back to the end of their ring, still queued
+                while (remaining-- > 0 && released < batch) {
+                    long packedPos = queue.dequeueLong();
+                    if (LightUpdateCoalescer.shouldHold(packedPos, nowMs, windowMs)) {
+                        queue.enqueue(packedPos);
+                        held++;
+                        continue;
+                    }
+
+                    QUEUED.remove(packedPos);
+                    LightUpdateCoalescer.markReleased(packedPos, nowMs, windowMs);
+                    provider.checkBlock(RELEASE_POS.set(packedPos));
+                    released++;
+                }
+            }
+        } finally {
+            releasing = false;
+        }
+
+        LightUpdateCoalescer.recordFrame(held);
+        lastReleased = released;
+        updateStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Called after the engine processed its updates, feeds the per-update cost estimate
+     */
+    public static void endUpdates(LightingProvider provider, int processed) {
+        // Passes on the light worker are recorded by the worker itself and timed there,
+        // the start time here belongs to the render thread and would add the queue latency
+        if (AsyncLightEngine.isWorkerThread()) {
+            return;
+        }
+        if (provider != scheduledProvider || updateStartNanos == 0L) {
+            return;
+        }
+
+        long elapsed = System.nanoTime() - updateStartNanos;
+        updateStartNanos = 0L;
+        lastProcessed = processed;
+        lastUpdateNanos = elapsed;
+        LightingMetrics.recordPass(processed, elapsed);
+        updateEstimate(processed, elapsed);
+    }
+
+    public static void clear() {
+        for (LongArrayFIFOQueue queue : BUCKETS) {
+            queue.clear();
+        }
+        QUEUED.clear();
+        LightUpdateCoalescer.clear();
+        LightingMetrics.clear();
+        lastReleased = 0;
+        lastProcessed = 0;
+        lastUpdateNanos = 0L;
+    }
+
+    // ===== METRICS =====
+
+    public static int getQueueDepth() {
+        return QUEUED.size();
+    }
+
+    public static int getReleasedLastFrame() {
+        return lastReleased;
+    }
+
+    public static int getProcessedLastFrame() {
+        return lastProcessed;
+    }
+
+    public static long getLastUpdateNanos() {
+        return lastUpdateNanos;
+    }
+
+    public static long getBudgetNanos() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null) {
+            return 0L;
+        }
+
+        long budget = config.renderSettings.lightUpdateBudget * 1_000L;
+        // With light updates turned down, lighting gets a quarter of the budget
+        return config.renderSettings.lightUpdates ? budget : budget / 4;
+    }
+
+    // ===== INTERNALS =====
+
+    private static boolean isScheduled(LightingProvider provider) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client == null || client.world == null || !client.isOnThread()
+            || provider != client.world.getLightingProvider()) {
+            return false;
+        }
+
+        if (provider != scheduledProvider) {
+            // New world, whatever was queued belongs to the old light engine
+            clear();
+            scheduledProvider = provider;
+        }
+        return true;
+    }
+
+    private static void updateEstimate(int processed, long elapsed) {
+        if (processed > 0) {
+            // Smooth the estimate so a single expensive frame does not collapse the next batch
+            long sample = elapsed / processed;
+            nanosPerUpdate = (nanosPerUpdate * 7 + sample) / 8;
+        }
+    }
+
+    private static int bucketOf(int x, int z) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        BlockPos camera = client.gameRenderer != null ? client.gameRenderer.getCamera().getBlockPos() : BlockPos.ORIGIN;
+        int chunkDistance = Math.max(Math.abs(x - camera.getX()), Math.abs(z - camera.getZ())) >> 4;
+        return Math.min(chunkDistance, DISTANCE_BUCKETS - 1);
+    }
+}
@@ -0,0 +1,122 @@
+package com.criticalrange.features.light;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rolling metrics of the client light engine, used to tune the light settings
+ * Every doLightUpdates pass records how many updates it processed and how long it took,
+ * the last {@value #SAMPLES} passes are kept for the percentiles.
+ * Section rebuilds scheduled by light changes are counted per second.
+ *
+ * Passes are recorded on the render thread, or on the light worker when off-thread lighting is on.
+ */
+public final class LightingMetrics {
+
+    private static final int SAMPLES = 256;
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+    private static final long[] PASS_NANOS = new long[SAMPLES];
+    private static final int[] PASS_UPDATES = new int[SAMPLES];
+    private static int sampleIndex;
+    private static int sampleCount;
+
+    private static long rebuildWindowStart;
+    private static int rebuildsInWindow;
+    private static int rebuildsPerSecond;
+
+    private LightingMetrics() {
+    }
+
+    /**
+     * Record one doLightUpdates pass
+     */
+    public static synchronized void recordPass(int processed, long nanos) {
+        PASS_UPDATES[sampleIndex] = processed;
+        PASS_NANOS[sampleIndex] = nanos;
+        sampleIndex = (sampleIndex + 1) % SAMPLES;
+        if (sampleCount < SAMPLES) {
+            sampleCount++;
+        }
+    }
+
+    /**
+     * Record a section rebuild scheduled by a light change, render thread only
+     */
+    public static void recordRebuild() {
+        long now = System.nanoTime();
+        long elapsed = now - rebuildWindowStart;
+        if (elapsed >= RATE_WINDOW_NANOS) {
+            // The finished window only counts if it was the one right before this
+            rebuildsPerSecond = elapsed < 2 * RATE_WINDOW_NANOS ? rebuildsInWindow : 0;
+            rebuildsInWindow = 0;
+            rebuildWindowStart = now;
+        }
+        rebuildsInWindow++;
+    }
+
+    public static synchronized Snapshot snapshot() {
+        long[] nanos = Arrays.copyOf(PASS_NANOS, sampleCount);
+        Arrays.sort(nanos);
+
+        long totalUpdates = 0L;
+        for (int i = 0; i < sampleCount; i++) {
+            totalUpdates += PASS_UPDATES[i];
+        }
+        int lastUpdates = sampleCount > 0 ? PASS_UPDATES[(sampleIndex + SAMPLES - 1) % SAMPLES] : 0;
+
+        return new Snapshot(
+            lastUpdates,
+            sampleCount > 0 ? (double) totalUpdates / sampleCount : 0.0,
+            percentile(nanos, 0.50),
+            percentile(nanos, 0.99),
+            getPendingUpdates(),
+            getRebuildsPerSecond());
+    }
+
+    /**
+     * Light checks waiting in the scheduler queue plus mutations waiting for the light worker
+     */
+    public static int getPendingUpdates() {
+        return LightUpdateScheduler.getQueueDepth() + AsyncLightEngine.getPendingTasks();
+    }
+
+    public static int getRebuildsPerSecond() {
+        // A quiet second since the last rebuild means the rate dropped to zero
+        return System.nanoTime() - rebuildWindowStart >= 2 * RATE_WINDOW_NANOS ? 0 : rebuildsPerSecond;
+    }
+
+    /**
+     * Lines shown on the debug screen
+     */
+    public static List<String> getDebugLines() {
+        Snapshot snapshot = snapshot();
+        List<String> lines = new ArrayList<>();
+        lines.add("[VulkanMod Extra] Lighting");
+        lines.add(String.format("Updates: %d last, %.1f avg per pass", snapshot.lastUpdates(), snapshot.averageUpdates()));
+        lines.add(String.format("Pass time: p50 %d us, p99 %d us", snapshot.p50Nanos() / 1000L, snapshot.p99Nanos() / 1000L));
+        lines.add(String.format("Pending: %d queued, %d held, %d rebuilds",
+            snapshot.pendingUpdates(), LightUpdateCoalescer.getHeldLastFrame(), LightUpdateCoalescer.getPendingRebuilds()));
+        lines.add(String.format("Light rebuilds: %d/s", snapshot.rebuildsPerSecond()));
+        return lines;
+    }
+
+    public static synchronized void clear() {
+        Arrays.fill(PASS_NANOS, 0L);
+        Arrays.fill(PASS_UPDATES, 0);
+        sampleIndex = 0;
+        sampleCount = 0;
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    public record Snapshot(int lastUpdates, double averageUpdates, long p50Nanos, long p99Nanos,
+                           int pendingUpdates, int rebuildsPerSecond) {}
+}
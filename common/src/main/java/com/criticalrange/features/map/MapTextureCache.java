@@ -0,0 +1,113 @@
+package com.criticalrange.features.map;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.config.VulkanModExtraConfig;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+
+/**
+ * Bounded map texture cache and reduced detail for distant framed maps
+ *
+ * Vanilla keeps one 128x128 texture per map id for the whole session and only re-uploads it when the map changes,
+ * so a map wall already draws from cached textures, but the cache never shrinks. Here the least recently drawn
+ * textures are closed once the configured number of maps is exceeded, textures drawn within the last second are kept.
+ * Framed maps beyond the detail distance are drawn without their decorations.
+ *
+ * Render thread only.
+ */
+public final class MapTextureCache {
+
+    // Textures drawn this recently are still in use and never evicted
+    private static final long IN_USE_NANOS = 1_000_000_000L;
+
+    private static final IntLinkedOpenHashSet ORDER = new IntLinkedOpenHashSet();
+    private static final Int2LongOpenHashMap LAST_DRAWN = new Int2LongOpenHashMap();
+
+    private static boolean simplifiedMap;
+    private static long evictedTextures;
+
+    private MapTextureCache() {
+    }
+
+    /**
+     * Mark a map texture as drawn and evict the least recently drawn ones over the limit
+     * @param textures vanilla's texture map keyed by map id
+     */
+    public static void touch(Int2ObjectMap<?> textures, int mapId) {
+        long now = System.nanoTime();
+        ORDER.addAndMoveToLast(mapId);
+        LAST_DRAWN.put(mapId, now);
+
+        int limit = getLimit();
+        if (limit <= 0) {
+            return;
+        }
+
+        // Textures may have been dropped by vanilla on a world change
+        if (ORDER.size() > textures.size() + limit) {
+            ORDER.removeIf(id -> !textures.containsKey(id));
+        }
+
+        while (textures.size() > limit && !ORDER.isEmpty()) {
+            int oldest = ORDER.firstInt();
+            if (now - LAST_DRAWN.get(oldest) < IN_USE_NANOS) {
+                break;
+            }
+
+            ORDER.removeFirstInt();
+            LAST_DRAWN.remove(oldest);
+            Object texture = textures.remove(oldest);
+            if (texture instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                    evictedTextures++;
+                } catch (Exception e) {
+                    VulkanModExtra.LOGGER.warn("Failed to close map texture {}: {}", oldest, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Called when an item frame reads its held item, decides the detail of the map it may hold
+     */
+    public static void beginFrame(Entity frame) {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        if (config == null || config.renderSettings == null || frame == null) {
+            simplifiedMap = false;
+            return;
+        }
+
+        double distance = config.renderSettings.mapDecorationDistance;
+        if (distance <= 0) {
+            simplifiedMap = false;
+            return;
+        }
+
+        Entity camera = MinecraftClient.getInstance().getCameraEntity();
+        simplifiedMap = camera != null && frame.squaredDistanceTo(camera) > distance * distance;
+    }
+
+    public static void endFrame() {
+        simplifiedMap = false;
+    }
+
+    /**
+     * Whether the map being drawn or updated right now belongs to a distant item frame
+     */
+    public static boolean isSimplified() {
+        return simplifiedMap;
+    }
+
+    public static long getEvictedTextures() {
+        return evictedTextures;
+    }
+
+    private static int getLimit() {
+        VulkanModExtraConfig config = VulkanModExtra.CONFIG;
+        return config != null && config.renderSettings != null ? config.renderSettings.mapTextureCacheSize : 0;
+    }
+}
@@ -2,7 +2,9 @@ package com.criticalrange.integration;
 
 import com.criticalrange.VulkanModExtra;
 import com.criticalrange.config.VulkanModExtraConfig;
+import com.criticalrange.features.animation.AnimationToggleStore;
 import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -173,9 +175,55 @@ public class VulkanModPageFactory {
             }
         }
 
+        // Animated sprites detected in the loaded atlases get generated toggles
+        if (config.pageType == PageType.ANIMATION) {
+            blocks.addAll(createDetectedAnimationBlocks());
+        }
+
         return createPage(config.pageTitle, blocks.toArray());
     }
 
+    /**
+     * Create one block per detected sprite group: a group toggle followed by a toggle per sprite
+     */
+    private static List<Object> createDetectedAnimationBlocks() throws Exception {
+        List<Object> blocks = new ArrayList<>();
+        String keyPrefix = "vulkanmod-extra.option.animation";
+
+        for (String group : AnimationToggleStore.getGroups()) {
+            List<Object> groupOptions = new ArrayList<>();
+
+            groupOptions.add(createSwitchOption(
+                Text.translatable(keyPrefix + ".detectedGroup", group),
+                keyPrefix + ".detectedGroup.tooltip",
+                () -> AnimationToggleStore.isGroupEnabled(group),
+                (value) -> {
+                    AnimationToggleStore.setGroupEnabled(group, value);
+                    saveConfig();
+                    triggerResourceReload(group);
+                }
+            ));
+
+            for (Identifier sprite : AnimationToggleStore.getSprites(group)) {
+                String path = sprite.getPath();
+                groupOptions.add(createSwitchOption(
+                    Text.literal(path.substring(path.lastIndexOf('/') + 1)),
+                    keyPrefix + ".detectedSprite.tooltip",
+                    () -> AnimationToggleStore.isSpriteEnabled(sprite),
+                    (value) -> {
+                        AnimationToggleStore.setSpriteEnabled(sprite, value);
+                        saveConfig();
+                        triggerResourceReload(sprite.toString());
+                    }
+                ));
+            }
+
+            blocks.add(createBlock(Text.translatable("vulkanmod-extra.block.animation.detected", group).getString(), groupOptions));
+        }
+
+        return blocks;
+    }
+
     /**
      * Get descriptive block names for each page type and group (localized)
      */
@@ -190,6 +238,7 @@ public class VulkanModPageFactory {
                     case 2: translationKey = "vulkanmod-extra.block.render.blockRendering"; break;
                     case 3: translationKey = "vulkanmod-extra.block.render.lightEffects"; break;
                     case 4: translationKey = "vulkanmod-extra.block.render.fogControls"; break;
+                    case 5: translationKey = "vulkanmod-extra.block.render.fogDistance"; break;
                     default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
                 }
                 break;
@@ -205,6 +254,10 @@ public class VulkanModPageFactory {
                     case 7: translationKey = "vulkanmod-extra.block.animation.sculkAnimations"; break;
                     case 8: translationKey = "vulkanmod-extra.block.animation.commandBlocks"; break;
                     case 9: translationKey = "vulkanmod-extra.block.animation.additional"; break;
+                    case 10: translationKey = "vulkanmod-extra.block.animation.interpolation"; break;
+                    case 11: translationKey = "vulkanmod-extra.block.animation.profiler"; break;
+                    case 12: translationKey = "vulkanmod-extra.block.animation.blockEntityAnimations"; break;
+                    case 13: translationKey = "vulkanmod-extra.block.animation.entityAnimations"; break;
                     default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
                 }
                 break;
@@ -240,6 +293,12 @@ public class VulkanModPageFactory {
                     default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
                 }
                 break;
+            case OPTIMIZATION:
+                switch (groupIndex) {
+                    case 0: translationKey = "vulkanmod-extra.block.optimization.entityTicking"; break;
+                    default: return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
+                }
+                break;
             default:
                 return Text.translatable("vulkanmod-extra.block.additionalControls", groupIndex + 1).getString();
         }
@@ -273,7 +332,15 @@ public class VulkanModPageFactory {
                     // Command block animations
                     {"commandBlockFront", "chainCommandBlockFront", "repeatingCommandBlockFront"},
                     // Additional animations
-                    {"beacon", "dragonEgg", "brewingStandBase", "cauldronWater"}
+                    {"beacon", "dragonEgg", "brewingStandBase", "cauldronWater"},
+                    // Frame interpolation
+                    {"frameInterpolation", "fluidInterpolation", "fireInterpolation", "portalInterpolation", "blockInterpolation", "plantInterpolation", "otherInterpolation"},
+                    // Animation cost profiler
+                    {"animationProfiler", "animationProfilerSort"},
+                    // Block entity animations
+                    {"enchantingTableBook", "blockEntityAnimationLod", "blockEntityAnimationDistance", "blockEntityFreezeDistance", "blockEntityAnimationInterval"},
+                    // Entity animations
+                    {"entityAnimationLod", "entityAnimationDistance", "entityAnimationFreezeDistance"}
                 };
                 return new PageConfig(PageType.ANIMATION, "Animations", "allAnimations", animationGroups);
 
@@ -316,15 +383,25 @@ public class VulkanModPageFactory {
             case RENDER:
                 String[][] renderGroups = {
                     // Entity Rendering
-                    {"itemFrame", "armorStand", "painting"},
+                    {"itemFrame", "armorStand", "painting", "decorativeEntityLod", "decorativeEntityDetailDistance",
+                     "itemFrameRenderDistance", "armorStandRenderDistance", "paintingRenderDistance",
+                     "staticDecorationCache", "mapTextureCacheSize", "mapDecorationDistance",
+                     "entityRenderBudget", "entityRenderLimit", "entityBudgetScreenSize",
+                     "distantEntityLod", "distantEntityDistance", "itemClusterMerging"},
                     // Name Tags
-                    {"itemFrameNameTag", "playerNameTag"},
+                    {"itemFrameNameTag", "armorStandNameTag", "playerNameTag",
+                     "playerNameTagDistance", "armorStandNameTagDistance", "itemFrameNameTagDistance", "otherNameTagDistance"},
                     // Block Rendering
-                    {"piston"},
+                    {"piston", "pistonLod", "pistonLodDistance", "blockEntityRenderDistance", "signRenderDistance", "bannerRenderDistance", "skullRenderDistance",
+                     "chestRenderDistance", "shulkerBoxRenderDistance", "decoratedPotRenderDistance", "lecternRenderDistance",
+                     "campfireRenderDistance", "staticBlockEntities"},
                     // Light & Effects
-                    {"lightUpdates", "beaconBeam", "beaconBeamHeight"},
+                    {"lightUpdates", "lightUpdateBudget", "asyncLightEngine", "lightCoalescingWindow", "lightingDebugInfo", "beaconBeam", "beaconBeamHeight"},
                     // Fog Controls
-                    {"fog", "overworldFog", "netherFog", "endFog", "waterFog", "lavaFog", "powderSnowFog"}
+                    {"fog", "overworldFog", "netherFog", "endFog", "waterFog", "lavaFog", "powderSnowFog", "fogCulling"},
+                    // Fog Distance
+                    {"overworldFogStart", "overworldFogEnd", "netherFogStart", "netherFogEnd", "endFogStart", "endFogEnd",
+                     "waterFogStart", "waterFogEnd", "lavaFogStart", "lavaFogEnd", "powderSnowFogStart", "powderSnowFogEnd", "fogRenderDistanceHint"}
                 };
                 return new PageConfig(PageType.RENDER, "Render", null, renderGroups);
 
@@ -338,7 +415,9 @@ public class VulkanModPageFactory {
 
             case OPTIMIZATION:
                 String[][] optimizationGroups = {
-                    // Reserved for future optimization features
+                    // Entity ticking
+                    {"entityTickThrottle", "entityTickHalfRateDistance", "entityTickQuarterRateDistance",
+                     "throttleHostileTicks", "throttlePassiveTicks", "throttleItemTicks", "throttleOtherTicks"}
                 };
                 return new PageConfig(PageType.OPTIMIZATION, "Optimization", null, optimizationGroups);
 
@@ -415,12 +494,18 @@ public class VulkanModPageFactory {
 
 
 
+    private static final java.util.Set<String> NO_RELOAD_ANIMATION_FIELDS = java.util.Set.of(
+        "animationProfiler", "enchantingTableBook", "blockEntityAnimationLod", "entityAnimationLod"
+    );
+
     /**
      * Check if a field change requires resource reload
      */
     private static boolean needsResourceReload(Object target, String fieldName) {
         // Only animation settings require resource reload (particles don't need it)
-        return target instanceof com.criticalrange.config.VulkanModExtraConfig.AnimationSettings;
+        // Profiler and block entity ticks do not touch the atlases, so toggling them must not restitch
+        return target instanceof com.criticalrange.config.VulkanModExtraConfig.AnimationSettings
+            && !NO_RELOAD_ANIMATION_FIELDS.contains(fieldName);
     }
 
     /**
@@ -493,9 +578,89 @@ public class VulkanModPageFactory {
             case "fullscreenMonitor":
                 min = 0; max = 5; step = 1;
                 break;
+            case "lightUpdateBudget":
+                min = 250; max = 10000; step = 250;
+                break;
+            case "lightCoalescingWindow":
+                min = 0; max = 500; step = 25;
+                break;
             case "beaconBeamHeight":
                 min = 32; max = 512; step = 16;
                 break;
+            case "overworldFogStart":
+            case "overworldFogEnd":
+            case "netherFogStart":
+            case "netherFogEnd":
+            case "endFogStart":
+            case "endFogEnd":
+            case "waterFogStart":
+            case "waterFogEnd":
+            case "lavaFogStart":
+            case "lavaFogEnd":
+            case "powderSnowFogStart":
+            case "powderSnowFogEnd":
+                min = 10; max = 200; step = 10;
+                break;
+            case "blockEntityAnimationDistance":
+                min = 8; max = 128; step = 8;
+                break;
+            case "blockEntityFreezeDistance":
+                min = 16; max = 256; step = 16;
+                break;
+            case "blockEntityAnimationInterval":
+                min = 2; max = 20; step = 1;
+                break;
+            case "entityAnimationDistance":
+                min = 8; max = 128; step = 8;
+                break;
+            case "entityAnimationFreezeDistance":
+                min = 16; max = 256; step = 16;
+                break;
+            case "decorativeEntityDetailDistance":
+                min = 4; max = 64; step = 4;
+                break;
+            case "itemFrameRenderDistance":
+            case "armorStandRenderDistance":
+            case "paintingRenderDistance":
+                min = 8; max = 128; step = 8;
+                break;
+            case "entityRenderLimit":
+                min = 25; max = 1000; step = 25;
+                break;
+            case "entityTickHalfRateDistance":
+                min = 16; max = 128; step = 8;
+                break;
+            case "entityTickQuarterRateDistance":
+                min = 32; max = 256; step = 16;
+                break;
+            case "distantEntityDistance":
+                min = 16; max = 128; step = 8;
+                break;
+            case "mapTextureCacheSize":
+                min = 32; max = 1024; step = 32;
+                break;
+            case "signRenderDistance":
+            case "bannerRenderDistance":
+            case "skullRenderDistance":
+            case "chestRenderDistance":
+            case "shulkerBoxRenderDistance":
+            case "decoratedPotRenderDistance":
+            case "lecternRenderDistance":
+            case "campfireRenderDistance":
+                min = 0; max = 128; step = 8;
+                break;
+            case "mapDecorationDistance":
+                min = 0; max = 128; step = 8;
+                break;
+            case "pistonLodDistance":
+                min = 8; max = 128; step = 8;
+                break;
+            case "playerNameTagDistance":
+            case "armorStandNameTagDistance":
+            case "itemFrameNameTagDistance":
+            case "otherNameTagDistance":
+                min = 4; max = 64; step = 4;
+                break;
             default:
                 // Generic integer range
                 min = 0; max = 100; step = 1;
@@ -549,8 +714,7 @@ public class VulkanModPageFactory {
                 pages.add(createVulkanModPage(PageType.DETAIL));
                 pages.add(createVulkanModPage(PageType.RENDER));
                 pages.add(createVulkanModPage(PageType.EXTRA));
-
-                // Optimization page removed - no optimization features currently available
+                pages.add(createVulkanModPage(PageType.OPTIMIZATION));
 
                 LOGGER.debug("Created {} VulkanMod Extra option pages with settings", pages.size());
             }
@@ -0,0 +1,25 @@
+package com.criticalrange.mixins.animations;
+
+import com.criticalrange.features.animation.BlockEntityAnimationLod;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BellBlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Distance-based throttling of the bell ringing animation
+ */
+@Mixin(BellBlockEntity.class)
+public class MixinBellBlockEntity {
+
+    @Inject(method = "clientTick", at = @At("HEAD"), cancellable = true, require = 0)
+    private static void vulkanmodExtra$throttleAnimation(World world, BlockPos pos, BlockState state, BellBlockEntity blockEntity, CallbackInfo ci) {
+        if (!BlockEntityAnimationLod.shouldTick(world, pos)) {
+            ci.cancel();
+        }
+    }
+}
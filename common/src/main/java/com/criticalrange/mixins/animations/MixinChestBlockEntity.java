@@ -0,0 +1,33 @@
+package com.criticalrange.mixins.animations;
+
+import com.criticalrange.features.animation.BlockEntityAnimationLod;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.ChestBlockEntity;
+import net.minecraft.block.entity.ChestLidAnimator;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Distance-based throttling of chest lid animations, trapped chests share this ticker
+ * A skipped tick holds the lid where it is, so it does not flicker between its last two positions
+ */
+@Mixin(ChestBlockEntity.class)
+public class MixinChestBlockEntity {
+
+    @Shadow @Final private ChestLidAnimator lidAnimator;
+
+    @Inject(method = "clientTick", at = @At("HEAD"), cancellable = true, require = 0)
+    private static void vulkanmodExtra$throttleAnimation(World world, BlockPos pos, BlockState state, ChestBlockEntity blockEntity, CallbackInfo ci) {
+        if (!BlockEntityAnimationLod.shouldTick(world, pos)) {
+            MixinChestLidAnimator lid = (MixinChestLidAnimator) ((MixinChestBlockEntity) (Object) blockEntity).lidAnimator;
+            lid.vulkanmodExtra$setLastProgress(lid.vulkanmodExtra$getProgress());
+            ci.cancel();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.criticalrange.mixins.animations;
+
+import net.minecraft.block.entity.ChestLidAnimator;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Lid progress access for throttled chests, a skipped tick holds the lid where it is
+ */
+@Mixin(ChestLidAnimator.class)
+public interface MixinChestLidAnimator {
+
+    @Accessor("progress")
+    float vulkanmodExtra$getProgress();
+
+    @Accessor("lastProgress")
+    void vulkanmodExtra$setLastProgress(float lastProgress);
+}
@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.animations;
+
+import com.criticalrange.features.animation.BlockEntityAnimationLod;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.ConduitBlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Distance-based throttling of the conduit's rotating cage and eye animation
+ * The tick that rescans the frame every 40 game ticks always runs, so activation and the effect range stay vanilla
+ */
+@Mixin(ConduitBlockEntity.class)
+public class MixinConduitBlockEntity {
+
+    @Inject(method = "clientTick", at = @At("HEAD"), cancellable = true, require = 0)
+    private static void vulkanmodExtra$throttleAnimation(World world, BlockPos pos, BlockState state, ConduitBlockEntity blockEntity, CallbackInfo ci) {
+        if (world.getTime() % 40L != 0L && !BlockEntityAnimationLod.shouldTick(world, pos)) {
+            ci.cancel();
+        }
+    }
+}
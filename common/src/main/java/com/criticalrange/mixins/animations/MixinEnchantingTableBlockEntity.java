@@ -0,0 +1,41 @@
+package com.criticalrange.mixins.animations;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.features.animation.BlockEntityAnimationLod;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.EnchantingTableBlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Enchanting table book animation control
+ * A disabled book keeps its current pose, otherwise it follows the block entity animation LOD
+ * Either way a skipped tick holds the book where it is, so it does not flicker between its last two poses
+ */
+@Mixin(EnchantingTableBlockEntity.class)
+public class MixinEnchantingTableBlockEntity {
+
+    @Inject(method = "tick", at = @At("HEAD"), cancellable = true, require = 0)
+    private static void vulkanmodExtra$throttleAnimation(World world, BlockPos pos, BlockState state, EnchantingTableBlockEntity blockEntity, CallbackInfo ci) {
+        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.animationSettings != null
+            && !VulkanModExtra.CONFIG.animationSettings.enchantingTableBook) {
+            vulkanmodExtra$holdPose(blockEntity);
+            ci.cancel();
+        } else if (!BlockEntityAnimationLod.shouldTick(world, pos)) {
+            vulkanmodExtra$holdPose(blockEntity);
+            ci.cancel();
+        }
+    }
+
+    @Unique
+    private static void vulkanmodExtra$holdPose(EnchantingTableBlockEntity blockEntity) {
+        blockEntity.pageAngle = blockEntity.nextPageAngle;
+        blockEntity.pageTurningSpeed = blockEntity.nextPageTurningSpeed;
+        blockEntity.lastBookRotation = blockEntity.bookRotation;
+    }
+}
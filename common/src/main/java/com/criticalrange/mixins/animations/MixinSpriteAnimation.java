@@ -0,0 +1,22 @@
+package com.criticalrange.mixins.animations;
+
+import com.criticalrange.features.animation.AnimationInterpolationControl;
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Frame interpolation control for animated sprites
+ * The animation class is package-private, so it is targeted by name and only its
+ * interpolation flag is touched when the animator is created
+ */
+@Mixin(targets = "net.minecraft.client.texture.SpriteContents$Animation")
+public class MixinSpriteAnimation {
+
+    @ModifyExpressionValue(method = "createAnimator",
+            at = @At(value = "FIELD", target = "Lnet/minecraft/client/texture/SpriteContents$Animation;interpolation:Z"),
+            require = 0)
+    private boolean vulkanmodExtra$controlInterpolation(boolean interpolate) {
+        return AnimationInterpolationControl.resolve(interpolate);
+    }
+}
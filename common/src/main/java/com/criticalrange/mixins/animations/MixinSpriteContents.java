@@ -0,0 +1,133 @@
+package com.criticalrange.mixins.animations;
+
+import com.criticalrange.features.animation.AnimationCostProfiler;
+import com.criticalrange.features.animation.AnimationInterpolationControl;
+import com.criticalrange.features.animation.StrippableSpriteContents;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.SpriteContents;
+import net.minecraft.util.Identifier;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyVariable;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Frame stripping for sprites whose animation is disabled
+ * The animation metadata is left in place, so every frame lookup is redirected to frame 0
+ * which is the only frame kept in the stripped image
+ *
+ * Also marks the sprite whose animator is being created for the interpolation control
+ * and reports upload sizes to the animation cost profiler
+ */
+@Mixin(SpriteContents.class)
+public abstract class MixinSpriteContents implements StrippableSpriteContents {
+
+    @Shadow @Final @Mutable private NativeImage image;
+    @Shadow NativeImage[] mipmapLevelsImages;
+
+    @Shadow public abstract int getWidth();
+    @Shadow public abstract int getHeight();
+    @Shadow public abstract Identifier getId();
+
+    @Unique
+    private boolean vulkanmodExtra$stripped = false;
+
+    @Override
+    public long vulkanmodExtra$stripToFirstFrame() {
+        if (this.vulkanmodExtra$stripped || this.image == null) {
+            return 0L;
+        }
+
+        int width = this.getWidth();
+        int height = this.getHeight();
+
+        // Nothing to reclaim if the image already holds a single frame
+        if (this.image.getWidth() <= width && this.image.getHeight() <= height) {
+            return 0L;
+        }
+
+        NativeImage[] source = this.mipmapLevelsImages != null ? this.mipmapLevelsImages : new NativeImage[]{this.image};
+        NativeImage[] stripped = new NativeImage[source.length];
+        long released = 0L;
+
+        for (int level = 0; level < source.length; level++) {
+            NativeImage levelImage = source[level];
+            int levelWidth = Math.max(1, width >> level);
+            int levelHeight = Math.max(1, height >> level);
+
+            NativeImage frame = new NativeImage(levelImage.getFormat(), levelWidth, levelHeight, false);
+            levelImage.copyRect(frame, 0, 0, 0, 0, levelWidth, levelHeight, false, false);
+            stripped[level] = frame;
+
+            released += vulkanmodExtra$sizeOf(levelImage) - vulkanmodExtra$sizeOf(frame);
+        }
+
+        // Level 0 is the original image, so closing the levels also closes it
+        for (NativeImage levelImage : source) {
+            levelImage.close();
+        }
+
+        this.mipmapLevelsImages = stripped;
+        this.image = stripped[0];
+        this.vulkanmodExtra$stripped = true;
+        return released;
+    }
+
+    @Override
+    public boolean vulkanmodExtra$isStripped() {
+        return this.vulkanmodExtra$stripped;
+    }
+
+    /**
+     * Stripped sprites only keep frame 0, so transparency lookups must not offset into other frames
+     */
+    @ModifyVariable(method = "isPixelTransparent", at = @At("HEAD"), argsOnly = true, ordinal = 0, require = 0)
+    private int vulkanmodExtra$clampStrippedFrame(int frame) {
+        return this.vulkanmodExtra$stripped ? 0 : frame;
+    }
+
+    @Inject(method = "createAnimator", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$beginAnimator(CallbackInfoReturnable<?> cir) {
+        AnimationInterpolationControl.beginAnimator(this.getId());
+    }
+
+    @Inject(method = "createAnimator", at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$endAnimator(CallbackInfoReturnable<?> cir) {
+        AnimationInterpolationControl.endAnimator();
+    }
+
+    /**
+     * Name-only target: matches the frame upload overloads of every supported version
+     */
+    @Inject(method = "upload", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$profileUpload(CallbackInfo ci) {
+        if (AnimationCostProfiler.isRecording() && this.image != null) {
+            AnimationCostProfiler.recordUpload(vulkanmodExtra$frameBytes());
+        }
+    }
+
+    /**
+     * Bytes of one frame across all mip levels, which is what a single upload sends
+     */
+    @Unique
+    private long vulkanmodExtra$frameBytes() {
+        int levels = this.mipmapLevelsImages != null ? this.mipmapLevelsImages.length : 1;
+        int channels = this.image.getFormat().getChannelCount();
+        long bytes = 0L;
+        for (int level = 0; level < levels; level++) {
+            bytes += (long) Math.max(1, this.getWidth() >> level) * Math.max(1, this.getHeight() >> level) * channels;
+        }
+        return bytes;
+    }
+
+    @Unique
+    private static long vulkanmodExtra$sizeOf(NativeImage image) {
+        return (long) image.getWidth() * image.getHeight() * image.getFormat().getChannelCount();
+    }
+}
@@ -1,6 +1,10 @@
 package com.criticalrange.mixins.animations;
 
 import com.criticalrange.VulkanModExtra;
+import com.criticalrange.features.animation.AnimationCostProfiler;
+import com.criticalrange.features.animation.AnimationInterpolationControl;
+import com.criticalrange.features.animation.AnimationToggleStore;
+import com.criticalrange.features.animation.SpriteFrameStripper;
 import net.minecraft.client.texture.AbstractTexture;
 import net.minecraft.client.texture.SpriteAtlasTexture;
 import net.minecraft.client.texture.SpriteLoader;
@@ -9,7 +13,9 @@ import net.minecraft.util.Identifier;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 
 /**
@@ -23,11 +29,45 @@ public abstract class MixinTextureAtlas extends AbstractTexture {
 
 
 
+    @Inject(method = "upload(Lnet/minecraft/client/texture/SpriteLoader$StitchResult;)V", at = @At("HEAD"))
+    private void vulkanmodExtra$beginUpload(SpriteLoader.StitchResult stitchResult, CallbackInfo ci) {
+        // Stripped frame and interpolation totals are tracked per atlas and rebuilt on every stitch
+        Identifier atlasId = ((SpriteAtlasTexture) (Object) this).getId();
+        SpriteFrameStripper.beginAtlas(atlasId);
+        AnimationInterpolationControl.beginAtlas(atlasId);
+        AnimationCostProfiler.beginAtlas(atlasId);
+        AnimationToggleStore.beginAtlas(atlasId);
+    }
+
+    @Inject(method = "tickAnimatedSprites", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$beginAnimationTick(CallbackInfo ci) {
+        AnimationCostProfiler.beginTick(((SpriteAtlasTexture) (Object) this).getId());
+    }
+
+    /**
+     * Descriptor-less target so the profiler works with every TickableAnimation#tick signature
+     */
+    @Inject(method = "tickAnimatedSprites", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/texture/Sprite$TickableAnimation;tick"), require = 0)
+    private void vulkanmodExtra$beginSpriteTick(CallbackInfo ci) {
+        AnimationCostProfiler.beginSprite();
+    }
+
+    @Inject(method = "tickAnimatedSprites", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/texture/Sprite$TickableAnimation;tick", shift = At.Shift.AFTER), require = 0)
+    private void vulkanmodExtra$endSpriteTick(CallbackInfo ci) {
+        AnimationCostProfiler.endSprite();
+    }
+
+    @Inject(method = "tickAnimatedSprites", at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$endAnimationTick(CallbackInfo ci) {
+        AnimationCostProfiler.endTick();
+    }
+
     @Redirect(method = "upload(Lnet/minecraft/client/texture/SpriteLoader$StitchResult;)V", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/texture/Sprite;createAnimation()Lnet/minecraft/client/texture/Sprite$TickableAnimation;"))
     public Sprite.TickableAnimation vulkanmodExtra$tickAnimatedSprites(Sprite instance) {
         Sprite.TickableAnimation tickableAnimation = instance.createAnimation();
 
         if (tickableAnimation != null) {
+            AnimationToggleStore.register(((SpriteAtlasTexture) (Object) this).getId(), instance.getContents().getId());
             String textureName = instance.getContents().getId().toString();
             boolean shouldAnimate = this.shouldAnimate(instance.getContents().getId());
 
@@ -37,11 +77,17 @@ public abstract class MixinTextureAtlas extends AbstractTexture {
             }
 
             if (shouldAnimate) {
+                AnimationCostProfiler.registerSprite(((SpriteAtlasTexture) (Object) this).getId(), instance.getContents().getId());
                 return tickableAnimation;
             } else {
                 if (textureName.contains("lava") || textureName.contains("fire") || textureName.contains("water")) {
                     VulkanModExtra.LOGGER.info("VulkanMod Extra: BLOCKING animation for {}", textureName);
                 }
+
+                // Frozen sprites only ever show their first frame, release the rest of the strip
+                Identifier atlasId = ((SpriteAtlasTexture) (Object) this).getId();
+                AnimationInterpolationControl.forget(atlasId, instance.getContents().getId());
+                SpriteFrameStripper.stripDisabledSprite(atlasId, instance);
             }
         }
 
@@ -67,6 +113,11 @@ public abstract class MixinTextureAtlas extends AbstractTexture {
             if (!settings.allAnimations) {
                 return false;
             }
+
+            // Auto-generated per-sprite and per-group toggles, covering modded textures too
+            if (!AnimationToggleStore.isEnabled(identifier)) {
+                return false;
+            }
             
             // If master toggle is enabled, check individual settings
             
@@ -0,0 +1,32 @@
+package com.criticalrange.mixins.extra;
+
+import com.criticalrange.VulkanModExtra;
+import com.criticalrange.features.light.LightingMetrics;
+import net.minecraft.client.gui.hud.DebugHud;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.List;
+
+/**
+ * Adds the lighting metrics to the right side of the debug screen (F3)
+ * Versions whose debug screen has no right text list skip this mixin
+ */
+@Mixin(DebugHud.class)
+public class MixinDebugHud {
+
+    @Inject(method = "getRightText", at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$addLightingMetrics(CallbackInfoReturnable<List<String>> cir) {
+        if (VulkanModExtra.CONFIG == null || !VulkanModExtra.CONFIG.renderSettings.lightingDebugInfo) {
+            return;
+        }
+
+        List<String> lines = cir.getReturnValue();
+        if (lines != null) {
+            lines.add("");
+            lines.addAll(LightingMetrics.getDebugLines());
+        }
+    }
+}
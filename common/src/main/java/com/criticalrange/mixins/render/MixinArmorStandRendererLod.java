@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.DecorativeEntityLod;
+import com.criticalrange.features.entity.NameTagCulling;
+import net.minecraft.client.render.entity.ArmorStandEntityRenderer;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Reduced detail for distant armor stands: name tags are dropped.
+ * Armor stand name tags, mostly holograms on servers, also follow their own name tag distance.
+ * 1.21.1 only, render state versions carry their own copy
+ */
+@Mixin(ArmorStandEntityRenderer.class)
+public class MixinArmorStandRendererLod {
+
+    @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ArmorStandEntity;)Z", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$dropDistantLabel(ArmorStandEntity armorStand, CallbackInfoReturnable<Boolean> cir) {
+        if (DecorativeEntityLod.isReduced(armorStand) || NameTagCulling.isLabelHidden(armorStand)) {
+            cir.setReturnValue(false);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.blockentity.StaticBlockEntities;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.block.entity.BannerBlockEntityRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Static banners: the wave is computed while rendering, its cosine is pinned to the rest pose
+ * 1.21.5+ changed the render signature and 1.21.9+ moved the wave into the render state, those versions carry their own copy
+ */
+@Mixin(BannerBlockEntityRenderer.class)
+public class MixinBannerRendererStatic {
+
+    @WrapOperation(method = "render",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/util/math/MathHelper;cos(F)F"),
+                   require = 0)
+    private float vulkanmodExtra$freezeWave(float value, Operation<Float> original) {
+        if (StaticBlockEntities.isEnabled()) {
+            return StaticBlockEntities.REST_WAVE;
+        }
+        return original.call(value);
+    }
+}
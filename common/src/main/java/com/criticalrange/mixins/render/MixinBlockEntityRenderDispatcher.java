@@ -0,0 +1,29 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.blockentity.BlockEntityRenderDistances;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.client.render.block.entity.BlockEntityRenderDispatcher;
+import net.minecraft.client.render.block.entity.BlockEntityRenderer;
+import net.minecraft.util.math.Vec3d;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Per-type render distances and fog culling for block entities
+ * Folded into the renderer's own render distance check, so it runs before any render work is done.
+ * The check happens while rendering up to 1.21.8, the 1.21.9+ modules check while building the render state.
+ * 1.21.5+ ask the renderer whether it draws outside its block without passing the block entity, those modules carry their own copy.
+ */
+@Mixin(BlockEntityRenderDispatcher.class)
+public class MixinBlockEntityRenderDispatcher {
+
+    @WrapOperation(method = "render", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/block/entity/BlockEntityRenderer;isInRenderDistance(Lnet/minecraft/block/entity/BlockEntity;Lnet/minecraft/util/math/Vec3d;)Z"), require = 0)
+    private <T extends BlockEntity> boolean vulkanmodExtra$cullFoggedBlockEntity(BlockEntityRenderer<T> renderer, T blockEntity, Vec3d cameraPos,
+                                                                                Operation<Boolean> original) {
+        return original.call(renderer, blockEntity, cameraPos)
+            && BlockEntityRenderDistances.shouldRender(blockEntity, renderer.rendersOutsideBoundingBox(blockEntity),
+                cameraPos.x, cameraPos.y, cameraPos.z);
+    }
+}
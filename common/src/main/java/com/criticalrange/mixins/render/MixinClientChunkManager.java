@@ -0,0 +1,36 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.StaticDecorationCache;
+import com.criticalrange.features.light.AsyncLightEngine;
+import com.criticalrange.features.light.LightUpdateCoalescer;
+import com.criticalrange.features.light.LightingMetrics;
+import net.minecraft.client.world.ClientChunkManager;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.LightType;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Light change notifications raised by the light worker are replayed on the render thread,
+ * sections are only scheduled for remeshing once their new light has been published.
+ * Sections relit repeatedly are remeshed at most once per coalescing window.
+ * Cached decoration light in a relit section is dropped as soon as the new light is visible.
+ */
+@Mixin(ClientChunkManager.class)
+public class MixinClientChunkManager {
+
+    @Inject(method = "onLightUpdate", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$deferLightNotification(LightType type, ChunkSectionPos pos, CallbackInfo ci) {
+        if (AsyncLightEngine.deferNotification((ClientChunkManager) (Object) this, type, pos) || LightUpdateCoalescer.deferRebuild(pos)) {
+            ci.cancel();
+            if (!AsyncLightEngine.isWorkerThread()) {
+                StaticDecorationCache.invalidateSection(pos);
+            }
+            return;
+        }
+        StaticDecorationCache.invalidateSection(pos);
+        LightingMetrics.recordRebuild();
+    }
+}
@@ -0,0 +1,45 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.EntityTickThrottle;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import com.llamalad7.mixinextras.sugar.Share;
+import com.llamalad7.mixinextras.sugar.ref.LocalBooleanRef;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Distant idle entities skip some of their client ticks, passengers are ticked by their vehicle
+ * Only the entity's own tick() is skipped, resetting the previous position and advancing its age still happen.
+ * The decision is taken before the previous position is reset, so a moving entity is still seen as moving.
+ */
+@Mixin(ClientWorld.class)
+public class MixinClientWorld {
+
+    @Inject(method = "tickEntities", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$advanceThrottle(CallbackInfo ci) {
+        EntityTickThrottle.beginTick();
+    }
+
+    @Inject(method = "tickEntity", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$decideEntityTick(Entity entity, CallbackInfo ci,
+                                                 @Share("skipTick") LocalBooleanRef skipTick) {
+        skipTick.set(EntityTickThrottle.shouldSkip(entity));
+    }
+
+    @WrapOperation(method = "tickEntity",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/Entity;tick()V"),
+                   require = 0)
+    private void vulkanmodExtra$throttleEntityTick(Entity entity, Operation<Void> original,
+                                                   @Share("skipTick") LocalBooleanRef skipTick) {
+        if (skipTick.get()) {
+            EntityTickThrottle.onSkipped(entity);
+            return;
+        }
+        original.call(entity);
+    }
+}
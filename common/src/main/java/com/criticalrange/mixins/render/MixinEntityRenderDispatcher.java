@@ -0,0 +1,57 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.DecorativeEntityLod;
+import com.criticalrange.features.entity.EntityRenderBudget;
+import com.criticalrange.features.entity.ItemClusterMerging;
+import com.criticalrange.features.fog.FogCulling;
+import net.minecraft.client.render.Frustum;
+import net.minecraft.client.render.entity.EntityRenderDispatcher;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Fog culling for entities
+ * Entities entirely beyond the terrain fog end are not rendered, glowing entities are kept for their outline.
+ * Decorative entities beyond their configured render distance are not rendered either.
+ * Dropped items and orbs drawn by their merged pile are skipped before the per-frame entity render budget,
+ * so they do not use it up, then visible entities outside the budget are skipped.
+ */
+@Mixin(EntityRenderDispatcher.class)
+public class MixinEntityRenderDispatcher {
+
+    @Inject(method = "shouldRender", at = @At("HEAD"), cancellable = true, require = 0)
+    private <E extends Entity> void vulkanmodExtra$cullFoggedEntity(E entity, Frustum frustum, double x, double y, double z,
+                                                                   CallbackInfoReturnable<Boolean> cir) {
+        if (!entity.isGlowing() && FogCulling.isHiddenByFog(entity.getBoundingBox(), x, y, z)) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Inject(method = "shouldRender", at = @At("HEAD"), cancellable = true, require = 0)
+    private <E extends Entity> void vulkanmodExtra$cullDistantDecoration(E entity, Frustum frustum, double x, double y, double z,
+                                                                        CallbackInfoReturnable<Boolean> cir) {
+        if (DecorativeEntityLod.getTier(entity, x, y, z) == DecorativeEntityLod.Tier.HIDDEN) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Inject(method = "shouldRender", at = @At("RETURN"), cancellable = true, require = 0)
+    private <E extends Entity> void vulkanmodExtra$mergeItemClusters(E entity, Frustum frustum, double x, double y, double z,
+                                                                    CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ() && ItemClusterMerging.shouldSkip(entity)) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Inject(method = "shouldRender", at = @At("RETURN"), cancellable = true, require = 0)
+    private <E extends Entity> void vulkanmodExtra$applyRenderBudget(E entity, Frustum frustum, double x, double y, double z,
+                                                                    CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ() && EntityRenderBudget.shouldSkip(entity, x, y, z)) {
+            cir.setReturnValue(false);
+            ItemClusterMerging.onCulled(entity);
+        }
+    }
+}
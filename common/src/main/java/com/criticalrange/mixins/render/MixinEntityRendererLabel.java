@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.LabelLayoutCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.render.entity.EntityRenderer;
+import net.minecraft.text.StringVisitable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Name tag text is measured through the label layout cache
+ * Entity-based rendering (1.21, 1.21.1), 1.21.2 to 1.21.8 carry their own copy for the render state signature.
+ * 1.21.9+ submits labels to the render command queue and measures them there, so this does not apply
+ */
+@Mixin(EntityRenderer.class)
+public class MixinEntityRendererLabel {
+
+    @WrapOperation(method = "renderLabelIfPresent",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/font/TextRenderer;getWidth(Lnet/minecraft/text/StringVisitable;)I"),
+                   require = 0)
+    private int vulkanmodExtra$cachedLabelWidth(TextRenderer textRenderer, StringVisitable text, Operation<Integer> original) {
+        return LabelLayoutCache.getWidth(text, value -> original.call(textRenderer, value));
+    }
+}
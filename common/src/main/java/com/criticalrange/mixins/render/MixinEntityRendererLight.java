@@ -0,0 +1,29 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.StaticDecorationCache;
+import net.minecraft.client.render.entity.EntityRenderer;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Item frames and paintings reuse their light until their section is relit
+ */
+@Mixin(EntityRenderer.class)
+public class MixinEntityRendererLight {
+
+    @Inject(method = "getLight(Lnet/minecraft/entity/Entity;F)I", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$useCachedLight(Entity entity, float tickDelta, CallbackInfoReturnable<Integer> cir) {
+        int light = StaticDecorationCache.getEntityLight(entity);
+        if (light != -1) {
+            cir.setReturnValue(light);
+        }
+    }
+
+    @Inject(method = "getLight(Lnet/minecraft/entity/Entity;F)I", at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$storeLight(Entity entity, float tickDelta, CallbackInfoReturnable<Integer> cir) {
+        StaticDecorationCache.putEntityLight(entity, cir.getReturnValueI());
+    }
+}
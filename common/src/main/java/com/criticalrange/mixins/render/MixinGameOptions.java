@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.fog.FogDistanceOverrides;
+import net.minecraft.client.option.GameOptions;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Effective render distance hint
+ * VulkanMod sizes its section grid from the clamped view distance, so clamping it to the
+ * dimension's fog end stops it from building sections that would be fully fogged
+ */
+@Mixin(GameOptions.class)
+public class MixinGameOptions {
+
+    @Inject(method = "getClampedViewDistance", at = @At("RETURN"), cancellable = true, require = 0)
+    private void vulkanmodExtra$applyFogRenderDistance(CallbackInfoReturnable<Integer> cir) {
+        int viewDistance = cir.getReturnValueI();
+        int effective = FogDistanceOverrides.getEffectiveViewDistance(viewDistance);
+        if (effective != viewDistance) {
+            cir.setReturnValue(effective);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.animation.EntityAnimationLod;
+import com.criticalrange.features.blockentity.BlockEntityRenderDistances;
+import com.criticalrange.features.entity.EntityRenderBudget;
+import com.criticalrange.features.entity.ItemClusterMerging;
+import com.criticalrange.features.fog.FogDistanceOverrides;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.option.GameOptions;
+import net.minecraft.client.render.GameRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Per-frame bookkeeping that has to run before the world is rendered
+ * The fog render distance hint is bypassed where the game renderer takes its fog distance from the view distance
+ */
+@Mixin(GameRenderer.class)
+public class MixinGameRenderer {
+
+    @Inject(method = "render", at = @At("HEAD"), require = 0)
+    private void vulkanmodExtra$beginFrame(CallbackInfo ci) {
+        EntityRenderBudget.beginFrame();
+        BlockEntityRenderDistances.beginFrame();
+        EntityAnimationLod.beginFrame();
+        ItemClusterMerging.beginFrame();
+    }
+
+    @WrapOperation(method = "renderWorld",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/option/GameOptions;getClampedViewDistance()I"),
+                   require = 0)
+    private int vulkanmodExtra$unclampedFogDistance(GameOptions options, Operation<Integer> original) {
+        FogDistanceOverrides.setReadingFogDistance(true);
+        try {
+            return original.call(options);
+        } finally {
+            FogDistanceOverrides.setReadingFogDistance(false);
+        }
+    }
+}
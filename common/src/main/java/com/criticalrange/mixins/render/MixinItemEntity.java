@@ -0,0 +1,18 @@
+package com.criticalrange.mixins.render;
+
+import net.minecraft.entity.ItemEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Item age access for the entity tick throttle, dropped items spin and bob by their item age
+ */
+@Mixin(ItemEntity.class)
+public interface MixinItemEntity {
+
+    @Accessor("itemAge")
+    int vulkanmodExtra$getItemAge();
+
+    @Accessor("itemAge")
+    void vulkanmodExtra$setItemAge(int itemAge);
+}
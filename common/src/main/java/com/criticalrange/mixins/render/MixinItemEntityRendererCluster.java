@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.ItemClusterMerging;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import com.llamalad7.mixinextras.sugar.Local;
+import net.minecraft.client.render.entity.ItemEntityRenderer;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * A dropped item standing in for a merged pile is drawn with as many models as the whole pile calls for
+ * Stack-based rendering only, 1.21.4+ draws from a render state without the stack at hand
+ */
+@Mixin(ItemEntityRenderer.class)
+public class MixinItemEntityRendererCluster {
+
+    @WrapOperation(method = "renderStack",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/entity/ItemEntityRenderer;getRenderedAmount(I)I"),
+                   require = 0)
+    private static int vulkanmodExtra$clusterAmount(int stackSize, Operation<Integer> original,
+                                                    @Local(argsOnly = true) ItemStack stack) {
+        return original.call(ItemClusterMerging.getDrawnCount(stack, stackSize));
+    }
+}
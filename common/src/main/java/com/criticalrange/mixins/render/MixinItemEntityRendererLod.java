@@ -0,0 +1,33 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.DistantEntityLod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import com.llamalad7.mixinextras.sugar.Local;
+import net.minecraft.client.render.entity.ItemEntityRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import org.joml.Matrix4f;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Distant dropped item stacks are drawn as a single item instead of the pile
+ * The stack is drawn relative to the camera, so the distance is read from the pose's translation
+ * 1.21.2 and 1.21.3 carry their own copy, 1.21.4+ sets the amount on the item render state instead
+ */
+@Mixin(ItemEntityRenderer.class)
+public class MixinItemEntityRendererLod {
+
+    @WrapOperation(method = "renderStack",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/entity/ItemEntityRenderer;getRenderedAmount(I)I"),
+                   require = 0)
+    private static int vulkanmodExtra$singleDistantItem(int stackSize, Operation<Integer> original,
+                                                        @Local(argsOnly = true) MatrixStack matrices) {
+        Matrix4f pose = matrices.peek().getPositionMatrix();
+        double squaredDistance = (double) pose.m30() * pose.m30() + (double) pose.m31() * pose.m31() + (double) pose.m32() * pose.m32();
+        if (DistantEntityLod.isDistant(squaredDistance)) {
+            return 1;
+        }
+        return original.call(stackSize);
+    }
+}
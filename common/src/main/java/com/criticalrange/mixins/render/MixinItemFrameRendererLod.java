@@ -0,0 +1,48 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.DecorativeEntityLod;
+import com.criticalrange.features.entity.NameTagCulling;
+import com.criticalrange.features.map.MapTextureCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.entity.ItemFrameEntityRenderer;
+import net.minecraft.entity.decoration.ItemFrameEntity;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Reduced detail for distant item frames: only the frame is drawn, without its item or name tag.
+ * Item frame name tags also follow their own name tag distance.
+ * The held item is read while rendering, which is also where a held map decides whether it is drawn with its decorations
+ * 1.21.1 only, render state versions carry their own copy
+ */
+@Mixin(ItemFrameEntityRenderer.class)
+public class MixinItemFrameRendererLod {
+
+    @WrapOperation(method = "render",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/decoration/ItemFrameEntity;getHeldItemStack()Lnet/minecraft/item/ItemStack;"),
+                   require = 0)
+    private ItemStack vulkanmodExtra$skipDistantItem(ItemFrameEntity frame, Operation<ItemStack> original) {
+        MapTextureCache.beginFrame(frame);
+        if (DecorativeEntityLod.isReduced(frame)) {
+            return ItemStack.EMPTY;
+        }
+        return original.call(frame);
+    }
+
+    @Inject(method = "render", at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$endMap(CallbackInfo ci) {
+        MapTextureCache.endFrame();
+    }
+
+    @Inject(method = "hasLabel(Lnet/minecraft/entity/decoration/ItemFrameEntity;)Z", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$dropDistantLabel(ItemFrameEntity frame, CallbackInfoReturnable<Boolean> cir) {
+        if (DecorativeEntityLod.isReduced(frame) || NameTagCulling.isLabelHidden(frame)) {
+            cir.setReturnValue(false);
+        }
+    }
+}
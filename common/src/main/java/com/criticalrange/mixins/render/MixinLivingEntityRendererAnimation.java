@@ -0,0 +1,59 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.animation.EntityAnimationLod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.entity.LivingEntityRenderer;
+import net.minecraft.client.render.entity.model.EntityModel;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Model animation LOD, applied where the renderer poses the model
+ * Entity-based rendering only (1.21.1), 1.21.2 to 1.21.8 carry their own copy that poses the model from the render state.
+ */
+@Mixin(LivingEntityRenderer.class)
+public class MixinLivingEntityRendererAnimation {
+
+    @WrapOperation(method = "render(Lnet/minecraft/entity/LivingEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/entity/model/EntityModel;animateModel(Lnet/minecraft/entity/Entity;FFF)V"),
+                   require = 0)
+    private void vulkanmodExtra$animateModelLod(EntityModel<Entity> model, Entity entity, float limbAngle, float limbDistance,
+                                                float tickDelta, Operation<Void> original) {
+        if (entity instanceof LivingEntity living && EntityAnimationLod.getBand(living) == EntityAnimationLod.Band.FROZEN) {
+            if (!EntityAnimationLod.holdsRestPose(model, living)) {
+                original.call(model, entity, 0.0F, 0.0F, tickDelta);
+            }
+            return;
+        }
+        original.call(model, entity, limbAngle, limbDistance, tickDelta);
+    }
+
+    @WrapOperation(method = "render(Lnet/minecraft/entity/LivingEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/entity/model/EntityModel;setAngles(Lnet/minecraft/entity/Entity;FFFFF)V"),
+                   require = 0)
+    private void vulkanmodExtra$setAnglesLod(EntityModel<Entity> model, Entity entity, float limbAngle, float limbDistance,
+                                             float animationProgress, float headYaw, float headPitch, Operation<Void> original) {
+        EntityAnimationLod.Band band = entity instanceof LivingEntity living ? EntityAnimationLod.getBand(living) : EntityAnimationLod.Band.FULL;
+        switch (band) {
+            case FROZEN -> {
+                LivingEntity living = (LivingEntity) entity;
+                if (!EntityAnimationLod.holdsRestPose(model, living)) {
+                    original.call(model, entity, 0.0F, 0.0F, 0.0F, 0.0F, 0.0F);
+                    EntityAnimationLod.markRestPose(model, living);
+                }
+            }
+            case REDUCED -> {
+                // Limbs keep swinging, head turning and idle motion stop
+                EntityAnimationLod.markAnimated(model);
+                original.call(model, entity, limbAngle, limbDistance, 0.0F, 0.0F, 0.0F);
+            }
+            default -> {
+                EntityAnimationLod.markAnimated(model);
+                original.call(model, entity, limbAngle, limbDistance, animationProgress, headYaw, headPitch);
+            }
+        }
+    }
+}
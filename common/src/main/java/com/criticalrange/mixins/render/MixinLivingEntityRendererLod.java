@@ -0,0 +1,48 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.DecorativeEntityLod;
+import com.criticalrange.features.entity.DistantEntityLod;
+import com.criticalrange.features.entity.NameTagCulling;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.entity.LivingEntityRenderer;
+import net.minecraft.client.render.entity.feature.FeatureRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Reduced detail for distant armor stands and mobs: armor stands skip all their feature renderers,
+ * mobs only their equipment layers (armor, held items, head, elytra, saddle)
+ * Entity-based rendering only (1.21.1), render state versions carry their own copy that decides while building the state.
+ * Player and mob name tags follow their name tag distance.
+ */
+@Mixin(LivingEntityRenderer.class)
+public class MixinLivingEntityRendererLod {
+
+    @WrapOperation(method = "render(Lnet/minecraft/entity/LivingEntity;FFLnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/entity/feature/FeatureRenderer;render(Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;ILnet/minecraft/entity/Entity;FFFFFF)V"),
+                   require = 0)
+    private void vulkanmodExtra$skipDistantEquipment(FeatureRenderer<?, ?> feature, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
+                                                     int light, Entity entity, float limbAngle, float limbDistance, float tickDelta,
+                                                     float animationProgress, float headYaw, float headPitch, Operation<Void> original) {
+        if (entity instanceof ArmorStandEntity ? DecorativeEntityLod.isReduced(entity)
+            : DistantEntityLod.isEquipmentLayer(feature) && DistantEntityLod.isDistant(entity)) {
+            return;
+        }
+        original.call(feature, matrices, vertexConsumers, light, entity, limbAngle, limbDistance, tickDelta, animationProgress, headYaw, headPitch);
+    }
+
+    @Inject(method = "hasLabel(Lnet/minecraft/entity/LivingEntity;)Z", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$cullDistantLabel(LivingEntity entity, CallbackInfoReturnable<Boolean> cir) {
+        if (NameTagCulling.isLabelHidden(entity)) {
+            cir.setReturnValue(false);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.map.MapTextureCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.minecraft.client.render.MapRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * Map texture cache bound and reduced detail for distant framed maps
+ * 1.21.1 keeps its map textures and draws its decorations here,
+ * render state versions carry their own copy that only strips the decorations
+ */
+@Mixin(MapRenderer.class)
+public class MixinMapRenderer {
+
+    @WrapOperation(method = "getMapTexture",
+                   at = @At(value = "INVOKE", target = "Lit/unimi/dsi/fastutil/ints/Int2ObjectMap;compute(ILjava/util/function/BiFunction;)Ljava/lang/Object;"),
+                   require = 0)
+    private Object vulkanmodExtra$trackTexture(Int2ObjectMap<Object> textures, int mapId, BiFunction<?, ?, ?> function, Operation<Object> original) {
+        Object texture = original.call(textures, mapId, function);
+        MapTextureCache.touch(textures, mapId);
+        return texture;
+    }
+
+    @WrapOperation(method = "getMapTexture",
+                   at = @At(value = "INVOKE", target = "Lit/unimi/dsi/fastutil/ints/Int2ObjectMap;computeIfAbsent(ILjava/util/function/IntFunction;)Ljava/lang/Object;"),
+                   require = 0)
+    private Object vulkanmodExtra$trackNewTexture(Int2ObjectMap<Object> textures, int mapId, IntFunction<?> function, Operation<Object> original) {
+        Object texture = original.call(textures, mapId, function);
+        MapTextureCache.touch(textures, mapId);
+        return texture;
+    }
+}
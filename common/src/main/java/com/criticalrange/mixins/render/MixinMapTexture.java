@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.map.MapTextureCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.item.map.MapDecoration;
+import net.minecraft.item.map.MapState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+import java.util.Collections;
+
+/**
+ * 1.21.1: distant framed maps are drawn without their decorations
+ * The texture class was replaced by the map render state in 1.21.2, where MixinMapRenderer handles it
+ */
+@Mixin(targets = "net.minecraft.client.render.MapRenderer$MapTexture")
+public class MixinMapTexture {
+
+    @WrapOperation(method = "draw",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/item/map/MapState;getDecorations()Ljava/lang/Iterable;"),
+                   require = 0)
+    private Iterable<MapDecoration> vulkanmodExtra$skipDistantDecorations(MapState state, Operation<Iterable<MapDecoration>> original) {
+        return MapTextureCache.isSimplified() ? Collections.emptyList() : original.call(state);
+    }
+}
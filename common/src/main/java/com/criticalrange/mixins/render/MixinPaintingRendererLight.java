@@ -0,0 +1,30 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.StaticDecorationCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.entity.PaintingEntityRenderer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockRenderView;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Paintings reuse the light of the blocks they cover until those sections are relit.
+ * The per-block lookups happen while drawing, render state versions carry their own copy
+ */
+@Mixin(PaintingEntityRenderer.class)
+public class MixinPaintingRendererLight {
+
+    @WrapOperation(method = "renderPainting",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/WorldRenderer;getLightmapCoordinates(Lnet/minecraft/world/BlockRenderView;Lnet/minecraft/util/math/BlockPos;)I"),
+                   require = 0)
+    private int vulkanmodExtra$cachePaintingLight(BlockRenderView world, BlockPos pos, Operation<Integer> original) {
+        int light = StaticDecorationCache.getBlockLight(world, pos);
+        if (light == -1) {
+            light = original.call(world, pos);
+            StaticDecorationCache.putBlockLight(pos, light);
+        }
+        return light;
+    }
+}
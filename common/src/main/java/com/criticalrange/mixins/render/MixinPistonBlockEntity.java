@@ -0,0 +1,25 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.animation.PistonAnimationLod;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.PistonBlockEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Distant moving blocks are drawn at their final position
+ * The render offsets are only read by the piston renderer, collision keeps using the real progress
+ */
+@Mixin(PistonBlockEntity.class)
+public class MixinPistonBlockEntity {
+
+    @Inject(method = {"getRenderOffsetX", "getRenderOffsetY", "getRenderOffsetZ"}, at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$staticDistantOffset(float tickDelta, CallbackInfoReturnable<Float> cir) {
+        BlockEntity self = (BlockEntity) (Object) this;
+        if (self.getWorld() != null && self.getWorld().isClient && PistonAnimationLod.isStatic(self.getPos())) {
+            cir.setReturnValue(0.0F);
+        }
+    }
+}
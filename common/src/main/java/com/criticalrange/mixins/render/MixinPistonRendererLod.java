@@ -0,0 +1,38 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.animation.PistonAnimationLod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.block.BlockModelRenderer;
+import net.minecraft.client.render.block.entity.PistonBlockEntityRenderer;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.BlockRenderView;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Distant moving blocks replay recorded geometry instead of tessellating their block model every frame
+ * Baked model rendering only (1.21 to 1.21.4), later versions render block model parts or submit moving blocks
+ * to the render command queue, there distant moving blocks are only drawn at their final position.
+ */
+@Mixin(PistonBlockEntityRenderer.class)
+public class MixinPistonRendererLod {
+
+    @WrapOperation(method = "renderModel",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/block/BlockModelRenderer;render(Lnet/minecraft/world/BlockRenderView;Lnet/minecraft/client/render/model/BakedModel;Lnet/minecraft/block/BlockState;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumer;ZLnet/minecraft/util/math/random/Random;JI)V"),
+                   require = 0)
+    private void vulkanmodExtra$replayDistantBlock(BlockModelRenderer renderer, BlockRenderView world, BakedModel model, BlockState state,
+                                                   BlockPos pos, MatrixStack matrices, VertexConsumer consumer, boolean cull,
+                                                   Random random, long seed, int overlay, Operation<Void> original) {
+        if (PistonAnimationLod.isStatic(pos)) {
+            PistonAnimationLod.renderStatic(renderer, world, model, state, pos, matrices, consumer, seed, overlay);
+            return;
+        }
+        original.call(renderer, world, model, state, pos, matrices, consumer, cull, random, seed, overlay);
+    }
+}
@@ -0,0 +1,77 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.blockentity.SignTextLayout;
+import com.criticalrange.features.blockentity.StaticBlockEntities;
+import net.minecraft.block.entity.SignText;
+import net.minecraft.text.OrderedText;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.Arrays;
+
+/**
+ * Static signs: the widths of a sign's lines are kept on its text, next to the ordered lines it caches itself
+ * A sign with new text gets a new SignText, a different filter mode makes it order its lines again,
+ * either way the lines handed out change and the widths are measured again.
+ * A font reload drops every width, so signs whose text never changes are measured with the new font.
+ */
+@Mixin(SignText.class)
+public class MixinSignText implements SignTextLayout {
+
+    @Unique
+    private OrderedText[] vulkanmodExtra$measuredLines;
+    @Unique
+    private int[] vulkanmodExtra$lineWidths;
+    @Unique
+    private long vulkanmodExtra$layoutGeneration;
+
+    @Inject(method = "getOrderedMessages", at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$trackOrderedLines(CallbackInfoReturnable<OrderedText[]> cir) {
+        OrderedText[] lines = cir.getReturnValue();
+        if (lines != vulkanmodExtra$measuredLines) {
+            vulkanmodExtra$measuredLines = lines;
+            vulkanmodExtra$lineWidths = new int[lines.length];
+            Arrays.fill(vulkanmodExtra$lineWidths, -1);
+        }
+    }
+
+    @Override
+    public int vulkanmodExtra$getLineWidth(OrderedText line) {
+        int index = vulkanmodExtra$indexOf(line);
+        if (index < 0) {
+            return -1;
+        }
+
+        long generation = StaticBlockEntities.getLayoutGeneration();
+        if (generation != vulkanmodExtra$layoutGeneration) {
+            vulkanmodExtra$layoutGeneration = generation;
+            Arrays.fill(vulkanmodExtra$lineWidths, -1);
+        }
+        return vulkanmodExtra$lineWidths[index];
+    }
+
+    @Override
+    public void vulkanmodExtra$putLineWidth(OrderedText line, int width) {
+        int index = vulkanmodExtra$indexOf(line);
+        if (index >= 0) {
+            vulkanmodExtra$lineWidths[index] = width;
+        }
+    }
+
+    @Unique
+    private int vulkanmodExtra$indexOf(OrderedText line) {
+        OrderedText[] lines = vulkanmodExtra$measuredLines;
+        if (lines == null) {
+            return -1;
+        }
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] == line) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
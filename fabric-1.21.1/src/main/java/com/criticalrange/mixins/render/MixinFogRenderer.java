@@ -1,16 +1,14 @@
 package com.criticalrange.mixins.render;
 
-import com.criticalrange.VulkanModExtra;
+import com.criticalrange.features.fog.FogContext;
+import com.criticalrange.features.fog.FogDistanceOverrides;
+import com.mojang.blaze3d.systems.RenderSystem;
 import net.minecraft.client.render.BackgroundRenderer;
 import net.minecraft.client.render.Camera;
+import net.minecraft.client.render.FogShape;
 import net.minecraft.entity.Entity;
-import net.minecraft.fluid.FluidState;
-import net.minecraft.registry.tag.FluidTags;
-import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraft.world.dimension.DimensionTypes;
-import net.minecraft.util.Identifier;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -33,59 +31,30 @@ public class MixinFogRenderer {
     @Inject(method = "applyFog", at = @At("HEAD"), cancellable = true, require = 0)
     private static void vulkanmodExtra$controlFog(Camera camera, BackgroundRenderer.FogType fogType,
                                                    float viewDistance, boolean thickFog, float tickDelta, CallbackInfo ci) {
-        if (VulkanModExtra.CONFIG == null || VulkanModExtra.CONFIG.renderSettings == null) {
-            return;
-        }
-
-        var renderSettings = VulkanModExtra.CONFIG.renderSettings;
-
-        // Master fog toggle - if disabled, cancel ALL fog
-        if (!renderSettings.fog) {
-            ci.cancel();
-            return;
-        }
-
-        // Master fog is enabled, check dimension-specific and environment-specific settings
+        // Decision is cached across the several applyFog calls of a frame
         Entity entity = camera.getFocusedEntity();
-        if (entity == null) return;
-
-        BlockPos blockPos = entity.getBlockPos();
-        World world = entity.getWorld();
-
-        // Check dimension-specific fog settings first
-        Identifier dimensionId = world.getDimensionEntry().getKey().get().getValue();
-        if (dimensionId.equals(DimensionTypes.OVERWORLD_ID) && !renderSettings.overworldFog) {
-            ci.cancel();
-            return;
-        }
-        if (dimensionId.equals(DimensionTypes.THE_NETHER_ID) && !renderSettings.netherFog) {
-            ci.cancel();
-            return;
-        }
-        if (dimensionId.equals(DimensionTypes.THE_END_ID) && !renderSettings.endFog) {
-            ci.cancel();
-            return;
-        }
-
-        // Check environment-specific fog settings (applies to all dimensions)
-        FluidState fluidState = world.getFluidState(blockPos);
+        World world = entity != null ? entity.getWorld() : null;
+        BlockPos blockPos = entity != null ? entity.getBlockPos() : null;
 
-        // Check if entity is in water
-        if (fluidState.isIn(FluidTags.WATER) && !renderSettings.waterFog) {
+        if (FogContext.resolve(world, blockPos) == FogContext.FogMode.DISABLED) {
             ci.cancel();
-            return;
         }
+    }
 
-        // Check if entity is in lava
-        if (fluidState.isIn(FluidTags.LAVA) && !renderSettings.lavaFog) {
-            ci.cancel();
-            return;
+    /**
+     * Apply the fog distance multipliers and record the terrain fog end for fog culling
+     * applyFog leaves its result in the shader state
+     */
+    @Inject(method = "applyFog", at = @At("RETURN"), require = 0)
+    private static void vulkanmodExtra$adjustFog(Camera camera, BackgroundRenderer.FogType fogType,
+                                                  float viewDistance, boolean thickFog, float tickDelta, CallbackInfo ci) {
+        if (FogDistanceOverrides.isActive()) {
+            RenderSystem.setShaderFogStart(FogDistanceOverrides.scaleStart(RenderSystem.getShaderFogStart()));
+            RenderSystem.setShaderFogEnd(FogDistanceOverrides.scaleEnd(RenderSystem.getShaderFogEnd()));
         }
 
-        // Check if entity is in powder snow
-        if (world.getBlockState(blockPos).isOf(Blocks.POWDER_SNOW) && !renderSettings.powderSnowFog) {
-            ci.cancel();
-            return;
+        if (fogType == BackgroundRenderer.FogType.FOG_TERRAIN) {
+            FogContext.recordTerrainFog(RenderSystem.getShaderFogEnd(), RenderSystem.getShaderFogShape() == FogShape.CYLINDER);
         }
     }
 }
@@ -0,0 +1,30 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.blockentity.BlockEntityRenderDistances;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.client.render.block.entity.BlockEntityRenderDispatcher;
+import net.minecraft.client.render.block.entity.BlockEntityRenderer;
+import net.minecraft.util.math.Vec3d;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Per-type render distances and fog culling for block entities for Minecraft 1.21.9+
+ *
+ * MAJOR CHANGE in 1.21.9:
+ * - Block entities are drawn from render states, the render distance check moved to getAndUpdateRenderState
+ * - A block entity out of range gets no render state, so nothing is extracted or submitted for it
+ */
+@Mixin(BlockEntityRenderDispatcher.class)
+public class MixinBlockEntityRenderDispatcher {
+
+    @WrapOperation(method = "getAndUpdateRenderState", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/block/entity/BlockEntityRenderer;isInRenderDistance(Lnet/minecraft/block/entity/BlockEntity;Lnet/minecraft/util/math/Vec3d;)Z"), require = 0)
+    private <T extends BlockEntity> boolean vulkanmodExtra$cullFoggedBlockEntity(BlockEntityRenderer<T, ?> renderer, T blockEntity, Vec3d cameraPos,
+                                                                                Operation<Boolean> original) {
+        return original.call(renderer, blockEntity, cameraPos)
+            && BlockEntityRenderDistances.shouldRender(blockEntity, renderer.rendersOutsideBoundingBox(),
+                cameraPos.x, cameraPos.y, cameraPos.z);
+    }
+}
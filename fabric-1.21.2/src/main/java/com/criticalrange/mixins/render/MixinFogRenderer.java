@@ -1,17 +1,14 @@
 package com.criticalrange.mixins.render;
 
-import com.criticalrange.VulkanModExtra;
+import com.criticalrange.features.fog.FogContext;
+import com.criticalrange.features.fog.FogDistanceOverrides;
 import net.minecraft.client.render.BackgroundRenderer;
 import net.minecraft.client.render.Camera;
 import net.minecraft.client.render.Fog;
+import net.minecraft.client.render.FogShape;
 import net.minecraft.entity.Entity;
-import net.minecraft.fluid.FluidState;
-import net.minecraft.registry.tag.FluidTags;
-import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraft.world.dimension.DimensionTypes;
-import net.minecraft.util.Identifier;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -37,59 +34,41 @@ public class MixinFogRenderer {
                                                    org.joml.Vector4f color, float viewDistance,
                                                    boolean thickFog, float tickDelta,
                                                    CallbackInfoReturnable<Fog> cir) {
-        if (VulkanModExtra.CONFIG == null || VulkanModExtra.CONFIG.renderSettings == null) {
-            return;
-        }
-
-        var renderSettings = VulkanModExtra.CONFIG.renderSettings;
-
-        // Master fog toggle - if disabled, return dummy fog (effectively disabling fog)
-        if (!renderSettings.fog) {
-            cir.setReturnValue(Fog.DUMMY);
-            return;
-        }
-
-        // Master fog is enabled, check dimension-specific and environment-specific settings
+        // Decision is cached across the several applyFog calls of a frame
         Entity entity = camera.getFocusedEntity();
-        if (entity == null) return;
-
-        BlockPos blockPos = entity.getBlockPos();
-        World world = entity.getWorld();
+        World world = entity != null ? entity.getWorld() : null;
+        BlockPos blockPos = entity != null ? entity.getBlockPos() : null;
 
-        // Check dimension-specific fog settings first
-        Identifier dimensionId = world.getDimensionEntry().getKey().get().getValue();
-        if (dimensionId.equals(DimensionTypes.OVERWORLD_ID) && !renderSettings.overworldFog) {
-            cir.setReturnValue(Fog.DUMMY);
-            return;
-        }
-        if (dimensionId.equals(DimensionTypes.THE_NETHER_ID) && !renderSettings.netherFog) {
+        // Return dummy fog (effectively disabling fog) when fog is disabled for this camera
+        if (FogContext.resolve(world, blockPos) == FogContext.FogMode.DISABLED) {
             cir.setReturnValue(Fog.DUMMY);
-            return;
         }
-        if (dimensionId.equals(DimensionTypes.THE_END_ID) && !renderSettings.endFog) {
-            cir.setReturnValue(Fog.DUMMY);
-            return;
-        }
-
-        // Check environment-specific fog settings (applies to all dimensions)
-        FluidState fluidState = world.getFluidState(blockPos);
+    }
 
-        // Check if entity is in water
-        if (fluidState.isIn(FluidTags.WATER) && !renderSettings.waterFog) {
-            cir.setReturnValue(Fog.DUMMY);
+    /**
+     * Apply the fog distance multipliers and record the terrain fog end for fog culling
+     */
+    @Inject(method = "applyFog", at = @At("RETURN"), cancellable = true, require = 0)
+    private static void vulkanmodExtra$adjustFog(Camera camera, BackgroundRenderer.FogType fogType,
+                                                  org.joml.Vector4f color, float viewDistance,
+                                                  boolean thickFog, float tickDelta,
+                                                  CallbackInfoReturnable<Fog> cir) {
+        Fog fog = cir.getReturnValue();
+        if (fog == null || fog == Fog.DUMMY) {
+            if (fogType == BackgroundRenderer.FogType.FOG_TERRAIN) {
+                FogContext.recordTerrainFog(Float.NaN, false);
+            }
             return;
         }
 
-        // Check if entity is in lava
-        if (fluidState.isIn(FluidTags.LAVA) && !renderSettings.lavaFog) {
-            cir.setReturnValue(Fog.DUMMY);
-            return;
+        if (FogDistanceOverrides.isActive()) {
+            fog = new Fog(FogDistanceOverrides.scaleStart(fog.start()), FogDistanceOverrides.scaleEnd(fog.end()),
+                fog.shape(), fog.red(), fog.green(), fog.blue(), fog.alpha());
+            cir.setReturnValue(fog);
         }
 
-        // Check if entity is in powder snow
-        if (world.getBlockState(blockPos).isOf(Blocks.POWDER_SNOW) && !renderSettings.powderSnowFog) {
-            cir.setReturnValue(Fog.DUMMY);
-            return;
+        if (fogType == BackgroundRenderer.FogType.FOG_TERRAIN) {
+            FogContext.recordTerrainFog(fog.end(), fog.shape() == FogShape.CYLINDER);
         }
     }
 }
\ No newline at end of file
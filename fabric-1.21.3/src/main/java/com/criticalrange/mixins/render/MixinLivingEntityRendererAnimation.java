@@ -0,0 +1,90 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.animation.EntityAnimationLod;
+import com.criticalrange.features.entity.EntityLodState;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.entity.LivingEntityRenderer;
+import net.minecraft.client.render.entity.model.EntityModel;
+import net.minecraft.client.render.entity.state.EntityRenderState;
+import net.minecraft.client.render.entity.state.LivingEntityRenderState;
+import net.minecraft.entity.LivingEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Model animation LOD, applied where the renderer poses the model from the render state
+ * The band and the rest pose key are picked while the state is built, where the entity is still at hand.
+ * A frozen entity whose model already holds its rest pose skips posing entirely, otherwise the model is posed
+ * with the animation inputs left out and the state is put back, so layers drawn after it see the real values.
+ */
+@Mixin(LivingEntityRenderer.class)
+public class MixinLivingEntityRendererAnimation {
+
+    @Inject(method = "updateRenderState(Lnet/minecraft/entity/LivingEntity;Lnet/minecraft/client/render/entity/state/LivingEntityRenderState;F)V",
+            at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$pickAnimationBand(LivingEntity entity, LivingEntityRenderState state, float tickDelta, CallbackInfo ci) {
+        EntityAnimationLod.Band band = EntityAnimationLod.getBand(entity);
+        long poseKey = band == EntityAnimationLod.Band.FROZEN ? EntityAnimationLod.poseKey(entity) : 0L;
+        ((EntityLodState) state).vulkanmodExtra$setAnimation(band, poseKey);
+    }
+
+    @WrapOperation(method = "render(Lnet/minecraft/client/render/entity/state/LivingEntityRenderState;Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumerProvider;I)V",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/entity/model/EntityModel;setAngles(Lnet/minecraft/client/render/entity/state/EntityRenderState;)V"),
+                   require = 0)
+    private void vulkanmodExtra$setAnglesLod(EntityModel<EntityRenderState> model, EntityRenderState renderState, Operation<Void> original) {
+        if (!(renderState instanceof LivingEntityRenderState state) || !(renderState instanceof EntityLodState lodState)) {
+            original.call(model, renderState);
+            return;
+        }
+
+        switch (lodState.vulkanmodExtra$getAnimationBand()) {
+            case FROZEN -> {
+                long poseKey = lodState.vulkanmodExtra$getPoseKey();
+                if (!EntityAnimationLod.holdsRestPose(model, poseKey)) {
+                    vulkanmodExtra$poseWithout(model, state, true, original);
+                    EntityAnimationLod.markRestPose(model, poseKey);
+                }
+            }
+            case REDUCED -> {
+                // Limbs keep swinging, head turning and idle motion stop
+                EntityAnimationLod.markAnimated(model);
+                vulkanmodExtra$poseWithout(model, state, false, original);
+            }
+            default -> {
+                EntityAnimationLod.markAnimated(model);
+                original.call(model, renderState);
+            }
+        }
+    }
+
+    @Unique
+    private static void vulkanmodExtra$poseWithout(EntityModel<EntityRenderState> model, LivingEntityRenderState state,
+                                                   boolean limbs, Operation<Void> original) {
+        float headYaw = state.yawDegrees;
+        float pitch = state.pitch;
+        float age = state.age;
+        float limbProgress = state.limbFrequency;
+        float limbAmplitude = state.limbAmplitudeMultiplier;
+
+        state.yawDegrees = 0.0F;
+        state.pitch = 0.0F;
+        state.age = 0.0F;
+        if (limbs) {
+            state.limbFrequency = 0.0F;
+            state.limbAmplitudeMultiplier = 0.0F;
+        }
+        try {
+            original.call(model, state);
+        } finally {
+            state.yawDegrees = headYaw;
+            state.pitch = pitch;
+            state.age = age;
+            state.limbFrequency = limbProgress;
+            state.limbAmplitudeMultiplier = limbAmplitude;
+        }
+    }
+}
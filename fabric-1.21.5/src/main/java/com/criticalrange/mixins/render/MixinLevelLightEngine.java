@@ -1,7 +1,12 @@
 package com.criticalrange.mixins.render;
 
-import com.criticalrange.VulkanModExtra;
+import com.criticalrange.features.light.AsyncLightEngine;
+import com.criticalrange.features.light.LightUpdateScheduler;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.LightType;
+import net.minecraft.world.chunk.ChunkNibbleArray;
 import net.minecraft.world.chunk.light.LightingProvider;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -10,56 +15,81 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 /**
- * Light updates control mixin - SAFE implementation
- * Provides light throttling when enabled, minimal interference when disabled
+ * Light updates control mixin
+ * Routes client block light checks through the time-budgeted light update scheduler,
+ * and every light engine mutation through the light worker when off-thread lighting is enabled
  */
 @Mixin(LightingProvider.class)
 public class MixinLevelLightEngine {
-    private static int throttleCounter = 0;
+
+    @Inject(at = @At("HEAD"), method = "checkBlock", cancellable = true)
+    public void vulkanmodExtra$scheduleLightCheck(BlockPos pos, CallbackInfo ci) {
+        LightingProvider self = (LightingProvider) (Object) this;
+        if (LightUpdateScheduler.defer(self, pos)) {
+            ci.cancel();
+            return;
+        }
+
+        BlockPos immutablePos = pos.toImmutable();
+        if (AsyncLightEngine.forward(self, () -> self.checkBlock(immutablePos))) {
+            ci.cancel();
+        }
+    }
 
     @Inject(at = @At("HEAD"), method = "doLightUpdates", cancellable = true)
-    public void vulkanmodExtra$throttleLightUpdates(CallbackInfoReturnable<Integer> cir) {
-        try {
-            // Safety check - if config is null, let vanilla handle everything
-            if (VulkanModExtra.CONFIG == null) {
-                return;
-            }
+    public void vulkanmodExtra$releaseLightChecks(CallbackInfoReturnable<Integer> cir) {
+        LightingProvider self = (LightingProvider) (Object) this;
+        LightUpdateScheduler.beginUpdates(self);
+
+        if (AsyncLightEngine.onDoLightUpdates(self)) {
+            cir.setReturnValue(0);
+        }
+    }
+
+    @Inject(at = @At("RETURN"), method = "doLightUpdates")
+    public void vulkanmodExtra$measureLightUpdates(CallbackInfoReturnable<Integer> cir) {
+        LightUpdateScheduler.endUpdates((LightingProvider) (Object) this, cir.getReturnValueI());
+    }
+
+    // ===== OFF-THREAD LIGHTING: mutations run on the light worker, in call order =====
+
+    @Inject(at = @At("HEAD"), method = "setSectionStatus", cancellable = true, require = 0)
+    public void vulkanmodExtra$forwardSectionStatus(ChunkSectionPos pos, boolean notReady, CallbackInfo ci) {
+        LightingProvider self = (LightingProvider) (Object) this;
+        if (AsyncLightEngine.forward(self, () -> self.setSectionStatus(pos, notReady))) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(at = @At("HEAD"), method = "setColumnEnabled", cancellable = true, require = 0)
+    public void vulkanmodExtra$forwardColumnEnabled(ChunkPos pos, boolean retainData, CallbackInfo ci) {
+        LightingProvider self = (LightingProvider) (Object) this;
+        if (AsyncLightEngine.forward(self, () -> self.setColumnEnabled(pos, retainData))) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(at = @At("HEAD"), method = "propagateLight", cancellable = true, require = 0)
+    public void vulkanmodExtra$forwardPropagateLight(ChunkPos pos, CallbackInfo ci) {
+        LightingProvider self = (LightingProvider) (Object) this;
+        if (AsyncLightEngine.forward(self, () -> self.propagateLight(pos))) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(at = @At("HEAD"), method = "enqueueSectionData", cancellable = true, require = 0)
+    public void vulkanmodExtra$forwardSectionData(LightType lightType, ChunkSectionPos pos, ChunkNibbleArray nibbles, CallbackInfo ci) {
+        LightingProvider self = (LightingProvider) (Object) this;
+        if (AsyncLightEngine.forward(self, () -> self.enqueueSectionData(lightType, pos, nibbles))) {
+            ci.cancel();
+        }
+    }
 
-            // If light updates are enabled, apply mild throttling for performance
-            if (VulkanModExtra.CONFIG.renderSettings.lightUpdates) {
-                throttleCounter++;
-                
-                // Very conservative throttling - only skip every 4th update
-                // This provides performance benefit without breaking critical lighting
-                if (throttleCounter % 4 == 0) {
-                    cir.setReturnValue(0);
-                }
-                
-                // Reset counter to prevent overflow
-                if (throttleCounter > 1000) {
-                    throttleCounter = 0;
-                }
-                return;
-            }
-            
-            // If disabled: Apply heavy throttling but NEVER completely block
-            // This maintains basic lighting functionality while reducing performance impact
-            throttleCounter++;
-            
-            // When disabled, only allow every 8th light update
-            // This gives significant performance boost while maintaining basic lighting
-            if (throttleCounter % 8 != 0) {
-                cir.setReturnValue(0);
-            }
-            
-            // Reset counter to prevent overflow
-            if (throttleCounter > 1000) {
-                throttleCounter = 0;
-            }
-            
-        } catch (Exception e) {
-            // If anything goes wrong, let vanilla lighting work normally
-            VulkanModExtra.LOGGER.warn("Light updates mixin error: {}", e.getMessage());
+    @Inject(at = @At("HEAD"), method = "setRetainData", cancellable = true, require = 0)
+    public void vulkanmodExtra$forwardRetainData(ChunkPos pos, boolean retainData, CallbackInfo ci) {
+        LightingProvider self = (LightingProvider) (Object) this;
+        if (AsyncLightEngine.forward(self, () -> self.setRetainData(pos, retainData))) {
+            ci.cancel();
         }
     }
 }
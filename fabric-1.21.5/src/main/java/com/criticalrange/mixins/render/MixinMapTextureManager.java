@@ -0,0 +1,37 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.map.MapTextureCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.minecraft.client.texture.MapTextureManager;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * Map texture cache bound for Minecraft 1.21.2+, map textures live in MapTextureManager
+ */
+@Mixin(MapTextureManager.class)
+public class MixinMapTextureManager {
+
+    @WrapOperation(method = "getMapTexture",
+                   at = @At(value = "INVOKE", target = "Lit/unimi/dsi/fastutil/ints/Int2ObjectMap;compute(ILjava/util/function/BiFunction;)Ljava/lang/Object;"),
+                   require = 0)
+    private Object vulkanmodExtra$trackTexture(Int2ObjectMap<Object> textures, int mapId, BiFunction<?, ?, ?> function, Operation<Object> original) {
+        Object texture = original.call(textures, mapId, function);
+        MapTextureCache.touch(textures, mapId);
+        return texture;
+    }
+
+    @WrapOperation(method = "getMapTexture",
+                   at = @At(value = "INVOKE", target = "Lit/unimi/dsi/fastutil/ints/Int2ObjectMap;computeIfAbsent(ILjava/util/function/IntFunction;)Ljava/lang/Object;"),
+                   require = 0)
+    private Object vulkanmodExtra$trackNewTexture(Int2ObjectMap<Object> textures, int mapId, IntFunction<?> function, Operation<Object> original) {
+        Object texture = original.call(textures, mapId, function);
+        MapTextureCache.touch(textures, mapId);
+        return texture;
+    }
+}
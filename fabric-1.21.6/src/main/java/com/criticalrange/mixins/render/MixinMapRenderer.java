@@ -0,0 +1,27 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.map.MapTextureCache;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.MapRenderer;
+import net.minecraft.item.map.MapDecoration;
+import net.minecraft.item.map.MapState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+import java.util.Collections;
+
+/**
+ * Reduced detail for distant framed maps: decorations are left out of the map render state
+ * The map textures themselves are kept by MapTextureManager
+ */
+@Mixin(MapRenderer.class)
+public class MixinMapRenderer {
+
+    @WrapOperation(method = "update",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/item/map/MapState;getDecorations()Ljava/lang/Iterable;"),
+                   require = 0)
+    private Iterable<MapDecoration> vulkanmodExtra$skipDistantDecorations(MapState state, Operation<Iterable<MapDecoration>> original) {
+        return MapTextureCache.isSimplified() ? Collections.emptyList() : original.call(state);
+    }
+}
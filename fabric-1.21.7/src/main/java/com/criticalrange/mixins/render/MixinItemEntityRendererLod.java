@@ -0,0 +1,26 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.DistantEntityLod;
+import net.minecraft.client.render.entity.ItemEntityRenderer;
+import net.minecraft.client.render.entity.state.ItemEntityRenderState;
+import net.minecraft.entity.ItemEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Distant dropped item stacks are drawn as a single item instead of the pile
+ * The number of models drawn is part of the item render state, so it is set once the state is built
+ */
+@Mixin(ItemEntityRenderer.class)
+public class MixinItemEntityRendererLod {
+
+    @Inject(method = "updateRenderState(Lnet/minecraft/entity/ItemEntity;Lnet/minecraft/client/render/entity/state/ItemEntityRenderState;F)V",
+            at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$singleDistantItem(ItemEntity entity, ItemEntityRenderState state, float tickDelta, CallbackInfo ci) {
+        if (DistantEntityLod.isDistant(entity)) {
+            state.renderedAmount = 1;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.animation.EntityAnimationLod;
+import com.criticalrange.features.entity.EntityLodState;
+import net.minecraft.client.render.entity.state.LivingEntityRenderState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Level of detail decisions made while the render state is built
+ */
+@Mixin(LivingEntityRenderState.class)
+public class MixinLivingEntityRenderState implements EntityLodState {
+
+    @Unique
+    private boolean vulkanmodExtra$distant;
+    @Unique
+    private EntityAnimationLod.Band vulkanmodExtra$animationBand = EntityAnimationLod.Band.FULL;
+    @Unique
+    private long vulkanmodExtra$poseKey;
+
+    @Override
+    public boolean vulkanmodExtra$isDistant() {
+        return vulkanmodExtra$distant;
+    }
+
+    @Override
+    public void vulkanmodExtra$setDistant(boolean distant) {
+        vulkanmodExtra$distant = distant;
+    }
+
+    @Override
+    public EntityAnimationLod.Band vulkanmodExtra$getAnimationBand() {
+        return vulkanmodExtra$animationBand;
+    }
+
+    @Override
+    public long vulkanmodExtra$getPoseKey() {
+        return vulkanmodExtra$poseKey;
+    }
+
+    @Override
+    public void vulkanmodExtra$setAnimation(EntityAnimationLod.Band band, long poseKey) {
+        vulkanmodExtra$animationBand = band;
+        vulkanmodExtra$poseKey = poseKey;
+    }
+}
@@ -0,0 +1,40 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.blockentity.SignTextLayout;
+import com.criticalrange.features.blockentity.StaticBlockEntities;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import com.llamalad7.mixinextras.sugar.Local;
+import net.minecraft.block.entity.SignText;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.render.block.entity.SignBlockEntityRenderer;
+import net.minecraft.text.OrderedText;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Static signs: every line is centred with its measured width, which is kept on the sign's text
+ * The sign still hands its text to renderText here, as on 1.21.1
+ * Hanging signs extend the sign renderer and share this
+ */
+@Mixin(SignBlockEntityRenderer.class)
+public class MixinSignRendererStatic {
+
+    @WrapOperation(method = "renderText",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/font/TextRenderer;getWidth(Lnet/minecraft/text/OrderedText;)I"),
+                   require = 0)
+    private int vulkanmodExtra$cachedLineWidth(TextRenderer textRenderer, OrderedText line, Operation<Integer> original,
+                                               @Local(argsOnly = true) SignText signText) {
+        if (!StaticBlockEntities.isEnabled()) {
+            return original.call(textRenderer, line);
+        }
+
+        SignTextLayout layout = (SignTextLayout) signText;
+        int width = layout.vulkanmodExtra$getLineWidth(line);
+        if (width == -1) {
+            width = original.call(textRenderer, line);
+            layout.vulkanmodExtra$putLineWidth(line, width);
+        }
+        return width;
+    }
+}
@@ -9,6 +9,7 @@ import net.minecraft.client.render.block.entity.state.BeaconBlockEntityRenderSta
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
@@ -42,11 +43,25 @@ public class MixinBeaconRenderer {
     }
 
     /**
-     * Note: Beacon beam height modification via @ModifyArg may need adjustment
-     * The renderBeam method also changed signature in 1.21.9 to use OrderedRenderCommandQueue
-     * For now, the height modification is disabled in favor of basic on/off control.
-     * 
-     * TODO: Implement height modification for 1.21.9+ if needed:
-     * New signature: renderBeam(MatrixStack, OrderedRenderCommandQueue, float, float, int, int, int)V
+     * Clamp the beacon beam height by intercepting the top segment's height
+     * 1.21.9+ signature: renderBeam(MatrixStack, OrderedRenderCommandQueue, float scale, float rotationDegrees, int yOffset, int height, int color)
+     *
+     * Beams need no extra batching here: every beam segment is submitted as custom geometry for the
+     * beacon beam render layer, and the command queue already draws all of them in one batch per layer.
      */
+    @ModifyArg(method = "render(Lnet/minecraft/client/render/block/entity/state/BeaconBlockEntityRenderState;Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/command/OrderedRenderCommandQueue;Lnet/minecraft/client/render/state/CameraRenderState;)V",
+               at = @At(value = "INVOKE",
+               target = "Lnet/minecraft/client/render/block/entity/BeaconBlockEntityRenderer;renderBeam(Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/command/OrderedRenderCommandQueue;FFIII)V"),
+               index = 5, require = 0) // height parameter (6th parameter, 0-indexed = 5)
+    private int vulkanmodExtra$modifyBeaconHeight(int originalHeight) {
+        if (VulkanModExtra.CONFIG != null && VulkanModExtra.CONFIG.renderSettings != null) {
+            int configuredHeight = VulkanModExtra.CONFIG.renderSettings.beaconBeamHeight;
+            // Only the top segment reaches the max beam height (2048), lower segments end at the next colour change
+            if (originalHeight >= 256) {
+                // Clamp to valid range (32-512)
+                return Math.max(32, Math.min(512, configuredHeight));
+            }
+        }
+        return originalHeight; // Don't modify small height values (from beam segments)
+    }
 }
\ No newline at end of file
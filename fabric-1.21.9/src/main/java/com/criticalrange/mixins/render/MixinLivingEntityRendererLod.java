@@ -0,0 +1,65 @@
+package com.criticalrange.mixins.render;
+
+import com.criticalrange.features.entity.DistantEntityLod;
+import com.criticalrange.features.entity.EntityLodState;
+import com.criticalrange.features.entity.NameTagCulling;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.client.render.command.OrderedRenderCommandQueue;
+import net.minecraft.client.render.entity.LivingEntityRenderer;
+import net.minecraft.client.render.entity.feature.ArmorFeatureRenderer;
+import net.minecraft.client.render.entity.feature.ElytraFeatureRenderer;
+import net.minecraft.client.render.entity.feature.FeatureRenderer;
+import net.minecraft.client.render.entity.feature.HeadFeatureRenderer;
+import net.minecraft.client.render.entity.feature.HeldItemFeatureRenderer;
+import net.minecraft.client.render.entity.state.EntityRenderState;
+import net.minecraft.client.render.entity.state.LivingEntityRenderState;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.entity.LivingEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Reduced detail for distant mobs: their equipment layers (armor, held items, head, elytra) are skipped.
+ * Whether a mob is distant is decided while its render state is built and kept on the state.
+ * Player and mob name tags follow their name tag distance.
+ */
+@Mixin(LivingEntityRenderer.class)
+public class MixinLivingEntityRendererLod {
+
+    @Inject(method = "updateRenderState(Lnet/minecraft/entity/LivingEntity;Lnet/minecraft/client/render/entity/state/LivingEntityRenderState;F)V",
+            at = @At("RETURN"), require = 0)
+    private void vulkanmodExtra$markDistant(LivingEntity entity, LivingEntityRenderState state, float tickDelta, CallbackInfo ci) {
+        ((EntityLodState) state).vulkanmodExtra$setDistant(DistantEntityLod.isDistant(entity));
+    }
+
+    @WrapOperation(method = "render(Lnet/minecraft/client/render/entity/state/LivingEntityRenderState;Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/command/OrderedRenderCommandQueue;Lnet/minecraft/client/render/state/CameraRenderState;)V",
+                   at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/entity/feature/FeatureRenderer;render(Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/command/OrderedRenderCommandQueue;ILnet/minecraft/client/render/entity/state/EntityRenderState;FF)V"),
+                   require = 0)
+    private void vulkanmodExtra$skipDistantEquipment(FeatureRenderer<?, ?> feature, MatrixStack matrices, OrderedRenderCommandQueue queue,
+                                                     int light, EntityRenderState state, float yaw, float pitch, Operation<Void> original) {
+        if (state instanceof EntityLodState lodState && lodState.vulkanmodExtra$isDistant() && vulkanmodExtra$isEquipmentLayer(feature)) {
+            return;
+        }
+        original.call(feature, matrices, queue, light, state, yaw, pitch);
+    }
+
+    @Inject(method = "hasLabel(Lnet/minecraft/entity/LivingEntity;D)Z", at = @At("HEAD"), cancellable = true, require = 0)
+    private void vulkanmodExtra$cullDistantLabel(LivingEntity entity, double squaredDistance, CallbackInfoReturnable<Boolean> cir) {
+        if (NameTagCulling.isLabelHidden(entity, squaredDistance)) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Unique
+    private static boolean vulkanmodExtra$isEquipmentLayer(FeatureRenderer<?, ?> feature) {
+        return feature instanceof ArmorFeatureRenderer
+            || feature instanceof HeldItemFeatureRenderer
+            || feature instanceof HeadFeatureRenderer
+            || feature instanceof ElytraFeatureRenderer;
+    }
+}